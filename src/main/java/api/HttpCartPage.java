@@ -0,0 +1,82 @@
+package api;
+
+import constants.AppConstants;
+import pages.CartView;
+import pages.ListingItem;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * HTTP Cart Page
+ * Cart page of the HTTP backend: title from the served HTML, items and removals
+ * from the stand-in's /api/cart endpoints for the session's cart
+ */
+public class HttpCartPage implements CartView {
+
+    private final HttpSession session;
+
+    public HttpCartPage(HttpSession session) {
+        this.session = session;
+    }
+
+    @Override
+    public String getPageTitle() {
+        return session.textOfClass("title");
+    }
+
+    @Override
+    public boolean isCartPageDisplayed() {
+        return session.getCurrentUrl().contains(AppConstants.CART_URL)
+                && AppConstants.CART_PAGE_TITLE.equals(getPageTitle());
+    }
+
+    @Override
+    public int getCartItemCount() {
+        return getCartItems().size();
+    }
+
+    @Override
+    public List<ListingItem> getCartItems() {
+        if (!AppConstants.CART_URL.equals(session.getCurrentUrl())) {
+            return List.of();
+        }
+        return HttpSession.listing(session.api("cart", Map.of("cart", session.getCart())));
+    }
+
+    @Override
+    public List<String> getCartItemNames() {
+        return getCartItems().stream().map(ListingItem::name).toList();
+    }
+
+    @Override
+    public HttpCartPage removeItem(String productName) {
+        session.require(AppConstants.CART_URL, "remove " + productName);
+        HttpProductsPage.clickCartButton(session, getCartItems(), "remove-", productName);
+        return this;
+    }
+
+    @Override
+    public HttpProductsPage continueShopping() {
+        session.require(AppConstants.CART_URL, "continue shopping");
+        session.open(AppConstants.INVENTORY_URL);
+        return new HttpProductsPage(session);
+    }
+
+    @Override
+    public HttpCheckoutPage checkout() {
+        session.require(AppConstants.CART_URL, "check out");
+        session.open(AppConstants.CHECKOUT_STEP_ONE_URL);
+        return new HttpCheckoutPage(session);
+    }
+
+    @Override
+    public boolean isProductInCart(String productName) {
+        return getCartItemNames().contains(productName);
+    }
+
+    @Override
+    public double getTotalPrice() {
+        return getCartItems().stream().mapToDouble(ListingItem::price).sum();
+    }
+}
@@ -0,0 +1,137 @@
+package api;
+
+import constants.AppConstants;
+import pages.CheckoutView;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * HTTP Checkout Page
+ * Checkout steps of the HTTP backend: the information form is validated and
+ * the overview amounts are computed by the stand-in's /api/checkout endpoints,
+ * titles and the completion message are read from the served HTML
+ */
+public class HttpCheckoutPage implements CheckoutView {
+
+    private final HttpSession session;
+    private String firstName = "";
+    private String lastName = "";
+    private String postalCode = "";
+    private String error;
+
+    public HttpCheckoutPage(HttpSession session) {
+        this.session = session;
+    }
+
+    @Override
+    public HttpCheckoutPage enterCheckoutInformation(String firstName, String lastName, String postalCode) {
+        session.require(AppConstants.CHECKOUT_STEP_ONE_URL, "enter checkout information");
+        this.firstName = firstName == null ? "" : firstName;
+        this.lastName = lastName == null ? "" : lastName;
+        this.postalCode = postalCode == null ? "" : postalCode;
+        return this;
+    }
+
+    @Override
+    public HttpCheckoutPage clickContinue() {
+        session.require(AppConstants.CHECKOUT_STEP_ONE_URL, "continue checkout");
+        error = (String) session.api("checkout/information",
+                Map.of("firstName", firstName, "lastName", lastName, "postalCode", postalCode)).get("error");
+        if (error == null) {
+            session.open(AppConstants.CHECKOUT_STEP_TWO_URL);
+        }
+        return this;
+    }
+
+    /**
+     * Back to the cart from step one; the overview's cancel returns to the inventory
+     */
+    @Override
+    public HttpCartPage clickCancel() {
+        if (AppConstants.CHECKOUT_STEP_TWO_URL.equals(session.getCurrentUrl())) {
+            session.open(AppConstants.INVENTORY_URL);
+        } else {
+            session.require(AppConstants.CHECKOUT_STEP_ONE_URL, "cancel checkout");
+            session.open(AppConstants.CART_URL);
+        }
+        return new HttpCartPage(session);
+    }
+
+    @Override
+    public String getErrorMessage() {
+        if (error == null || !AppConstants.CHECKOUT_STEP_ONE_URL.equals(session.getCurrentUrl())) {
+            throw new RuntimeException("No error message displayed on " + session.getCurrentUrl());
+        }
+        return error;
+    }
+
+    @Override
+    public boolean isCheckoutStepOneDisplayed() {
+        return session.getCurrentUrl().contains(AppConstants.CHECKOUT_STEP_ONE_URL);
+    }
+
+    @Override
+    public boolean isCheckoutStepTwoDisplayed() {
+        return session.getCurrentUrl().contains(AppConstants.CHECKOUT_STEP_TWO_URL);
+    }
+
+    @Override
+    public String getPageTitle() {
+        return session.textOfClass("title");
+    }
+
+    @Override
+    public String getSubtotal() {
+        return (String) overview().get("subtotal");
+    }
+
+    @Override
+    public String getTax() {
+        return (String) overview().get("tax");
+    }
+
+    @Override
+    public String getTotal() {
+        return (String) overview().get("total");
+    }
+
+    @Override
+    public HttpCheckoutPage clickFinish() {
+        session.require(AppConstants.CHECKOUT_STEP_TWO_URL, "finish checkout");
+        session.setCart(List.of());
+        session.open(AppConstants.CHECKOUT_COMPLETE_URL);
+        return this;
+    }
+
+    @Override
+    public boolean isCheckoutComplete() {
+        return session.getCurrentUrl().contains(AppConstants.CHECKOUT_COMPLETE_URL);
+    }
+
+    @Override
+    public String getCompleteMessage() {
+        return session.textOfClass("complete-header");
+    }
+
+    @Override
+    public HttpProductsPage clickBackHome() {
+        session.require(AppConstants.CHECKOUT_COMPLETE_URL, "go back home");
+        session.open(AppConstants.INVENTORY_URL);
+        return new HttpProductsPage(session);
+    }
+
+    @Override
+    public HttpCheckoutPage completeCheckout(String firstName, String lastName, String postalCode) {
+        enterCheckoutInformation(firstName, lastName, postalCode);
+        clickContinue();
+        clickFinish();
+        return this;
+    }
+
+    // Overview amounts exist only on step two
+    private Map<String, Object> overview() {
+        session.require(AppConstants.CHECKOUT_STEP_TWO_URL, "read checkout amounts");
+        return session.api("checkout/overview", Map.of("cart", session.getCart()));
+    }
+}
@@ -0,0 +1,89 @@
+package api;
+
+import constants.AppConstants;
+import pages.LoginView;
+
+import java.util.Map;
+
+/**
+ * HTTP Login Page
+ * Login page of the HTTP backend: typed credentials are kept until the login
+ * button is "clicked", then checked by the stand-in's /api/login like its form does
+ */
+public class HttpLoginPage implements LoginView {
+
+    private final HttpSession session;
+    private String username = "";
+    private String password = "";
+    private String error;
+
+    public HttpLoginPage(HttpSession session) {
+        this.session = session;
+    }
+
+    @Override
+    public HttpLoginPage navigateToLoginPage() {
+        session.open(AppConstants.LOGIN_PAGE_URL);
+        error = null;
+        return this;
+    }
+
+    @Override
+    public HttpLoginPage enterUsername(String username) {
+        this.username = username == null ? "" : username;
+        return this;
+    }
+
+    @Override
+    public HttpLoginPage enterPassword(String password) {
+        this.password = password == null ? "" : password;
+        return this;
+    }
+
+    @Override
+    public void clickLoginButton() {
+        session.require(AppConstants.LOGIN_PAGE_URL, "log in");
+        error = (String) session.api("login", Map.of("username", username, "password", password)).get("error");
+        if (error == null) {
+            session.logIn(username);
+            session.open(AppConstants.INVENTORY_URL);
+        }
+    }
+
+    @Override
+    public HttpProductsPage login(String username, String password) {
+        enterUsername(username);
+        enterPassword(password);
+        clickLoginButton();
+        return new HttpProductsPage(session);
+    }
+
+    /**
+     * No browser state to restore: a login over HTTP is already cheap
+     */
+    @Override
+    public HttpProductsPage loginWithSession(String username, String password) {
+        navigateToLoginPage();
+        return login(username, password);
+    }
+
+    @Override
+    public String getErrorMessage() {
+        if (!isErrorMessageDisplayed()) {
+            throw new RuntimeException("No error message displayed on " + session.getCurrentUrl());
+        }
+        return error != null ? error
+                : (String) session.api("access-denied", Map.of("path", session.getDeniedPath())).get("error");
+    }
+
+    @Override
+    public boolean isErrorMessageDisplayed() {
+        return (error != null || session.getDeniedPath() != null)
+                && AppConstants.LOGIN_PAGE_URL.equals(session.getCurrentUrl());
+    }
+
+    @Override
+    public boolean isLogoDisplayed() {
+        return AppConstants.LOGIN_PAGE_URL.equals(session.getCurrentUrl()) && session.hasClass("login_logo");
+    }
+}
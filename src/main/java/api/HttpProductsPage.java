@@ -0,0 +1,117 @@
+package api;
+
+import constants.AppConstants;
+import pages.ListingItem;
+import pages.ProductsView;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * HTTP Products Page
+ * Inventory page of the HTTP backend: title and sort options are read from
+ * the served HTML, the listing and cart changes come from the stand-in's
+ * /api/inventory and /api/cart endpoints, as on its page
+ */
+public class HttpProductsPage implements ProductsView {
+
+    private final HttpSession session;
+    private String order = "az";
+
+    public HttpProductsPage(HttpSession session) {
+        this.session = session;
+    }
+
+    @Override
+    public String getPageTitle() {
+        return session.textOfClass("title");
+    }
+
+    @Override
+    public boolean isProductsPageDisplayed() {
+        return session.getCurrentUrl().contains(AppConstants.INVENTORY_URL)
+                && AppConstants.PRODUCTS_PAGE_TITLE.equals(getPageTitle());
+    }
+
+    @Override
+    public int getProductCount() {
+        return getProducts().size();
+    }
+
+    @Override
+    public HttpProductsPage addProductToCart(String productName) {
+        session.require(AppConstants.INVENTORY_URL, "add " + productName + " to cart");
+        clickCartButton(session, getProducts(), "add-to-cart-", productName);
+        return this;
+    }
+
+    @Override
+    public HttpProductsPage removeProductFromCart(String productName) {
+        session.require(AppConstants.INVENTORY_URL, "remove " + productName + " from cart");
+        clickCartButton(session, getProducts(), "remove-", productName);
+        return this;
+    }
+
+    @Override
+    public int getCartItemCount() {
+        return session.getCart().size();
+    }
+
+    @Override
+    public HttpCartPage clickShoppingCart() {
+        session.open(AppConstants.CART_URL);
+        return new HttpCartPage(session);
+    }
+
+    @Override
+    public HttpProductsPage sortProducts(String sortOption) {
+        session.require(AppConstants.INVENTORY_URL, "sort products");
+        String value = session.options("product_sort_container").get(sortOption);
+        if (value == null) {
+            throw new RuntimeException("Cannot locate sort option with text: " + sortOption);
+        }
+        order = value;
+        return this;
+    }
+
+    @Override
+    public HttpLoginPage logout() {
+        session.logOut();
+        return new HttpLoginPage(session).navigateToLoginPage();
+    }
+
+    @Override
+    public List<ListingItem> getProducts() {
+        if (!AppConstants.INVENTORY_URL.equals(session.getCurrentUrl())) {
+            return List.of();
+        }
+        return HttpSession.listing(session.api("inventory", Map.of("sort", order, "cart", session.getCart())));
+    }
+
+    @Override
+    public String getFirstProductName() {
+        List<ListingItem> products = getProducts();
+        return products.isEmpty() ? null : products.get(0).name();
+    }
+
+    @Override
+    public String getFirstProductPrice() {
+        List<ListingItem> products = getProducts();
+        // ROOT: the site always shows "$29.99", whatever the JVM's locale
+        return products.isEmpty() ? null : String.format(Locale.ROOT, "$%.2f", products.get(0).price());
+    }
+
+    /**
+     * "Click" the add-to-cart or remove button of a listed product, found by its
+     * id like the Selenium page objects do; the API returns the new cart
+     */
+    static void clickCartButton(HttpSession session, List<ListingItem> listing, String buttonPrefix, String productName) {
+        String buttonId = buttonPrefix + productName.toLowerCase().replace(" ", "-");
+        ListingItem item = listing.stream().filter(row -> buttonId.equals(row.buttonId())).findFirst()
+                .orElseThrow(() -> new RuntimeException("No " + buttonId + " button on " + session.getCurrentUrl()));
+        String endpoint = item.inCart() ? "cart/remove" : "cart/add";
+        session.setCart(session.api(endpoint, Map.of("cart", session.getCart(), "id", Integer.parseInt(item.itemId())))
+                .get("cart"));
+    }
+}
@@ -0,0 +1,217 @@
+package api;
+
+import constants.AppConstants;
+import org.openqa.selenium.json.Json;
+import pages.ListingItem;
+import utils.ConfigReader;
+import utils.LocalAppServer;
+import utils.TimingMetrics;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * HTTP Session
+ * One user's visit without a browser: pages are fetched with a plain HTTP
+ * client and read from their HTML, while the state the site keeps in the
+ * browser (logged-in user, cart contents) is kept here. Page objects of the
+ * HTTP backend (HttpLoginPage...) share one session per test.
+ * Logins, listings, cart changes and checkout are the stand-in's /api/
+ * endpoints, the same ones its pages call from app.js, so both backends run
+ * the stand-in's rules. Only the local stand-in (app.target=local) has them;
+ * the live site builds every page in the browser. So this backend tests the
+ * stand-in, not SauceDemo.
+ */
+public class HttpSession {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(ConfigReader.getInt("page.load.timeout"));
+
+    // No cookies or redirects to follow: the site's session lives in browser script
+    private static final HttpClient client = HttpClient.newBuilder().connectTimeout(TIMEOUT).build();
+    private static final Json json = new Json();
+
+    private final List<Integer> cart = new ArrayList<>();
+    private String username;
+    // Nothing opened yet, like a fresh browser on about:blank
+    private String currentUrl = "";
+    private String html = "";
+    private String deniedPath;
+
+    public HttpSession() {
+        if (!LocalAppServer.isEnabled()) {
+            throw new RuntimeException("The HTTP backend only runs against the local stand-in (app.target=local),"
+                    + " not app.target=" + ConfigReader.getProperty("app.target"));
+        }
+    }
+
+    /**
+     * Open a page; like the site, pages other than login send a logged-out user
+     * back to the login page
+     */
+    public void open(String url) {
+        deniedPath = null;
+        if (username == null && !url.equals(AppConstants.LOGIN_PAGE_URL)) {
+            deniedPath = URI.create(url).getPath();
+            url = AppConstants.LOGIN_PAGE_URL;
+        }
+        long start = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = client.send(HttpRequest.newBuilder(URI.create(url)).timeout(TIMEOUT).GET().build(),
+                    HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            throw new RuntimeException("GET " + url + " failed: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while loading " + url, e);
+        } finally {
+            TimingMetrics.record("http.get", URI.create(url).getPath(), System.nanoTime() - start);
+        }
+        if (response.statusCode() != 200) {
+            throw new RuntimeException("GET " + url + " returned HTTP " + response.statusCode());
+        }
+        currentUrl = url;
+        html = response.body();
+    }
+
+    /**
+     * Call one of the stand-in's /api/ endpoints (see utils.LocalAppApi) with a JSON
+     * body; fails with the endpoint's error if it rejects the request
+     */
+    Map<String, Object> api(String endpoint, Map<String, Object> body) {
+        URI uri = URI.create(AppConstants.BASE_URL + "api/" + endpoint);
+        long start = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = client.send(HttpRequest.newBuilder(uri).timeout(TIMEOUT)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(json.toJson(body))).build(),
+                    HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            throw new RuntimeException("POST " + uri + " failed: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while calling " + uri, e);
+        } finally {
+            TimingMetrics.record("http.post", uri.getPath(), System.nanoTime() - start);
+        }
+        Map<String, Object> result = json.toType(response.body(), Json.MAP_TYPE);
+        if (response.statusCode() != 200) {
+            throw new RuntimeException("POST " + uri + " returned HTTP " + response.statusCode()
+                    + ": " + result.get("error"));
+        }
+        return result;
+    }
+
+    /**
+     * Rows of a listing returned by the API, as the pages render them
+     */
+    @SuppressWarnings("unchecked")
+    static List<ListingItem> listing(Map<String, Object> result) {
+        return ((List<Map<String, Object>>) result.get("items")).stream()
+                .map(item -> new ListingItem(String.valueOf(item.get("id")), (String) item.get("name"),
+                        ((Number) item.get("price")).doubleValue(), (String) item.get("buttonId"),
+                        (Boolean) item.get("inCart")))
+                .toList();
+    }
+
+    /**
+     * Fail unless the given page is open, like a browser that cannot find the page's controls
+     */
+    void require(String url, String action) {
+        if (!url.equals(currentUrl)) {
+            throw new RuntimeException("Cannot " + action + ": expected " + url + " but on " + currentUrl);
+        }
+    }
+
+    public String getCurrentUrl() {
+        return currentUrl;
+    }
+
+    void logIn(String username) {
+        this.username = username;
+    }
+
+    /**
+     * Clear the user and cart, like the site's logout
+     */
+    void logOut() {
+        username = null;
+        cart.clear();
+    }
+
+    /**
+     * Product ids in the cart, in the order they were added (the site's cart-contents)
+     */
+    List<Integer> getCart() {
+        return List.copyOf(cart);
+    }
+
+    /**
+     * Replace the cart with the one an /api/cart endpoint returned
+     */
+    @SuppressWarnings("unchecked")
+    void setCart(Object ids) {
+        cart.clear();
+        ((List<Number>) ids).forEach(id -> cart.add(id.intValue()));
+    }
+
+    /**
+     * Path of the page a logged-out user was just sent away from, null otherwise
+     */
+    String getDeniedPath() {
+        return deniedPath;
+    }
+
+    /**
+     * Text of the first element of the current page with the given class, null if there is none
+     */
+    public String textOfClass(String cssClass) {
+        Matcher matcher = Pattern.compile("<(\\w+)[^>]*\\sclass=\"(?:[^\"]*\\s)?" + Pattern.quote(cssClass)
+                + "(?:\\s[^\"]*)?\"[^>]*>(.*?)</\\1>", Pattern.DOTALL).matcher(html);
+        return matcher.find() ? text(matcher.group(2)) : null;
+    }
+
+    /**
+     * Check if the current page has an element with the given class
+     */
+    public boolean hasClass(String cssClass) {
+        return Pattern.compile("\\sclass=\"(?:[^\"]*\\s)?" + Pattern.quote(cssClass) + "(?:\\s[^\"]*)?\"")
+                .matcher(html).find();
+    }
+
+    /**
+     * Options (visible text to value) of the first select with the given class
+     */
+    public Map<String, String> options(String cssClass) {
+        Map<String, String> options = new LinkedHashMap<>();
+        Matcher select = Pattern.compile("<select[^>]*\\sclass=\"(?:[^\"]*\\s)?" + Pattern.quote(cssClass)
+                + "(?:\\s[^\"]*)?\"[^>]*>(.*?)</select>", Pattern.DOTALL).matcher(html);
+        if (select.find()) {
+            Matcher option = Pattern.compile("<option[^>]*\\svalue=\"([^\"]*)\"[^>]*>(.*?)</option>", Pattern.DOTALL)
+                    .matcher(select.group(1));
+            while (option.find()) {
+                options.put(text(option.group(2)), option.group(1));
+            }
+        }
+        return options;
+    }
+
+    // Inner HTML to visible text: tags dropped, common entities decoded, whitespace collapsed
+    private static String text(String innerHtml) {
+        return innerHtml.replaceAll("<[^>]*>", "")
+                .replace("&lt;", "<").replace("&gt;", ">").replace("&quot;", "\"")
+                .replace("&#39;", "'").replace("&amp;", "&")
+                .replaceAll("\\s+", " ").trim();
+    }
+}
@@ -1,17 +1,20 @@
 package constants;
 
+import utils.ConfigReader;
+
 /**
  * Application Constants
  */
 public class AppConstants {
 
-    // URLs
-    public static final String LOGIN_PAGE_URL = "https://www.saucedemo.com/";
-    public static final String INVENTORY_URL = "https://www.saucedemo.com/inventory.html";
-    public static final String CART_URL = "https://www.saucedemo.com/cart.html";
-    public static final String CHECKOUT_STEP_ONE_URL = "https://www.saucedemo.com/checkout-step-one.html";
-    public static final String CHECKOUT_STEP_TWO_URL = "https://www.saucedemo.com/checkout-step-two.html";
-    public static final String CHECKOUT_COMPLETE_URL = "https://www.saucedemo.com/checkout-complete.html";
+    // URLs (resolved from app.target in config.properties)
+    public static final String BASE_URL = ConfigReader.getBaseUrl();
+    public static final String LOGIN_PAGE_URL = BASE_URL;
+    public static final String INVENTORY_URL = BASE_URL + "inventory.html";
+    public static final String CART_URL = BASE_URL + "cart.html";
+    public static final String CHECKOUT_STEP_ONE_URL = BASE_URL + "checkout-step-one.html";
+    public static final String CHECKOUT_STEP_TWO_URL = BASE_URL + "checkout-step-two.html";
+    public static final String CHECKOUT_COMPLETE_URL = BASE_URL + "checkout-complete.html";
 
     // Page Titles
     public static final String PRODUCTS_PAGE_TITLE = "Products";
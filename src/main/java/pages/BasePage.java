@@ -3,12 +3,20 @@ package pages;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.Select;
-import org.openqa.selenium.support.ui.WebDriverWait;
+import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import utils.AdaptiveWait;
 import utils.ConfigReader;
+import utils.TimingMetrics;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * Base Page - Parent class for all page objects
@@ -17,67 +25,211 @@ import java.time.Duration;
 public class BasePage {
 
     protected WebDriver driver;
-    protected WebDriverWait wait;
+    protected AdaptiveWait wait;
     protected static final Logger log = LogManager.getLogger(BasePage.class);
 
+    // Level for per-interaction logs (click/type/read/wait); under parallel execution it
+    // drops to log.interaction.level.parallel (TRACE by default) so they are filtered out
+    // before any message formatting happens
+    protected static final Level INTERACTION = Level.toLevel(ConfigReader.isParallelExecution()
+            ? ConfigReader.getProperty("log.interaction.level.parallel")
+            : ConfigReader.getProperty("log.interaction.level"), Level.INFO);
+
+    // DOM must stay unchanged this long after animations finish to count as settled
+    private static final int DOM_QUIET_MILLIS = 50;
+
+    // Resolves once running animations/transitions finish and mutations stop for the quiet period
+    private static final String ANIMATION_SETTLED_SCRIPT =
+            "var element = arguments[0], quietMillis = arguments[1], done = arguments[arguments.length - 1];"
+            + "requestAnimationFrame(function () { requestAnimationFrame(function () {"
+            + "  var animations = element.getAnimations ? element.getAnimations({subtree: true}) : [];"
+            + "  Promise.all(animations.map(function (a) { return a.finished.catch(function () {}); }))"
+            + "    .then(function () {"
+            + "      var timer;"
+            + "      var observer = new MutationObserver(function () {"
+            + "        clearTimeout(timer); timer = setTimeout(finish, quietMillis);"
+            + "      });"
+            + "      function finish() { observer.disconnect(); done(true); }"
+            + "      observer.observe(element, {attributes: true, childList: true, subtree: true});"
+            + "      timer = setTimeout(finish, quietMillis);"
+            + "    });"
+            + "}); });";
+
+    // Reads every row of a listing (inventory_item / cart_item) in one round-trip
+    private static final String READ_LISTING_SCRIPT =
+            "var rows = document.getElementsByClassName(arguments[0]), result = [];"
+            + "for (var i = 0; i < rows.length; i++) {"
+            + "  var row = rows[i];"
+            + "  var name = row.querySelector('.inventory_item_name');"
+            + "  var price = row.querySelector('.inventory_item_price');"
+            + "  var link = row.querySelector('a[id]');"
+            + "  var button = row.querySelector('button');"
+            + "  result.push({"
+            + "    itemId: link ? link.id.replace(/\\D/g, '') : '',"
+            + "    name: name ? name.innerText.trim() : '',"
+            + "    price: price ? price.innerText.replace('$', '').trim() : '0',"
+            + "    buttonId: button ? button.id : '',"
+            + "    inCart: button ? button.id.indexOf('remove') === 0 : false"
+            + "  });"
+            + "}"
+            + "return result;";
+
     public BasePage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(ConfigReader.getTimeout()));
+        this.wait = new AdaptiveWait(driver,
+                Duration.ofSeconds(ConfigReader.getTimeout()),
+                Duration.ofMillis(ConfigReader.getLong("wait.poll.min.millis")),
+                Duration.ofMillis(ConfigReader.getLong("wait.poll.max.millis")));
+    }
+
+    /**
+     * Resolved elements of the driver's current document, shared with the thread's
+     * other page objects; cleared on navigation and after clicks through any of them
+     */
+    private ElementCache elements() {
+        return ElementCache.of(driver);
     }
 
     /**
      * Wait for element to be visible
      */
     protected WebElement waitForElementVisible(By locator) {
-        log.info("Waiting for element to be visible: " + locator);
-        return wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+        return resolve(locator, WebElement::isDisplayed, () -> {
+            log.log(INTERACTION, "Waiting for element to be visible: {}", locator);
+            return wait.until(ExpectedConditions.visibilityOfElementLocated(locator), "wait.visible", locator);
+        });
     }
 
     /**
      * Wait for element to be clickable
      */
     protected WebElement waitForElementClickable(By locator) {
-        log.info("Waiting for element to be clickable: " + locator);
-        return wait.until(ExpectedConditions.elementToBeClickable(locator));
+        return resolve(locator, element -> element.isDisplayed() && element.isEnabled(), () -> {
+            log.log(INTERACTION, "Waiting for element to be clickable: {}", locator);
+            return wait.until(ExpectedConditions.elementToBeClickable(locator), "wait.clickable", locator);
+        });
+    }
+
+    /**
+     * Find element that only needs to be present; a cached handle is used
+     * without any check, a stale one fails the action and is retried
+     */
+    protected WebElement findPresent(By locator) {
+        return resolve(locator, element -> true, () -> driver.findElement(locator));
+    }
+
+    /**
+     * Cached element for locator if usable accepts it, otherwise look it up and cache it
+     */
+    private WebElement resolve(By locator, Predicate<WebElement> usable, Supplier<WebElement> lookup) {
+        WebElement element = elements().get(locator, usable);
+        if (element == null) {
+            element = lookup.get();
+            elements().put(locator, element);
+        }
+        return element;
+    }
+
+    /**
+     * Run action on the element for locator; if the element went stale (cached
+     * handle of a re-rendered node), resolve the locator again and retry once
+     */
+    private <T> T withElement(By locator, Function<By, WebElement> resolver, Function<WebElement, T> action) {
+        try {
+            return action.apply(resolver.apply(locator));
+        } catch (StaleElementReferenceException e) {
+            elements().evictStale(locator);
+            log.log(INTERACTION, "Element {} went stale, resolving it again", locator);
+            return action.apply(resolver.apply(locator));
+        }
+    }
+
+    /**
+     * Wait for CSS transitions/animations on element (and its children) to finish
+     * and for DOM mutations on it to stop, instead of sleeping a fixed time
+     */
+    protected WebElement waitForAnimationToComplete(By locator) {
+        long start = System.nanoTime();
+        WebElement element = wait.until(ExpectedConditions.presenceOfElementLocated(locator));
+        ((JavascriptExecutor) driver).executeAsyncScript(ANIMATION_SETTLED_SCRIPT, element, DOM_QUIET_MILLIS);
+        long elapsed = System.nanoTime() - start;
+        TimingMetrics.record("wait.animation", locator, elapsed);
+        log.log(INTERACTION, "Animations settled on {} after {} ms", () -> locator, () -> elapsed / 1_000_000);
+        return element;
+    }
+
+    /**
+     * Click element with JavaScript (for elements covered by overlays)
+     */
+    protected void clickWithJavaScript(By locator) {
+        long start = System.nanoTime();
+        withElement(locator, this::findPresent,
+                element -> ((JavascriptExecutor) driver).executeScript("arguments[0].click();", element));
+        elements().clear();
+        TimingMetrics.record("action.clickWithJavaScript", locator, System.nanoTime() - start);
+        log.log(INTERACTION, "Clicked on element with JavaScript: {}", locator);
     }
 
     /**
      * Click element
      */
     protected void click(By locator) {
-        waitForElementClickable(locator).click();
-        log.info("Clicked on element: " + locator);
+        long start = System.nanoTime();
+        withElement(locator, this::waitForElementClickable, element -> {
+            element.click();
+            return null;
+        });
+        elements().clear();
+        TimingMetrics.record("action.click", locator, System.nanoTime() - start);
+        log.log(INTERACTION, "Clicked on element: {}", locator);
     }
 
     /**
      * Enter text
      */
     protected void enterText(By locator, String text) {
-        WebElement element = waitForElementVisible(locator);
-        element.clear();
-        element.sendKeys(text);
-        log.info("Entered text '" + text + "' in element: " + locator);
+        long start = System.nanoTime();
+        withElement(locator, this::waitForElementVisible, element -> {
+            element.clear();
+            element.sendKeys(text);
+            return null;
+        });
+        TimingMetrics.record("action.enterText", locator, System.nanoTime() - start);
+        log.log(INTERACTION, "Entered text '{}' in element: {}", text, locator);
     }
 
     /**
      * Get text
      */
     protected String getText(By locator) {
-        String text = waitForElementVisible(locator).getText();
-        log.info("Got text '" + text + "' from element: " + locator);
+        long start = System.nanoTime();
+        String text = withElement(locator, this::waitForElementVisible, WebElement::getText);
+        TimingMetrics.record("action.getText", locator, System.nanoTime() - start);
+        log.log(INTERACTION, "Got text '{}' from element: {}", text, locator);
         return text;
     }
 
     /**
-     * Check if element is displayed
+     * Check if element is displayed right now (no waiting)
+     * Uses findElements so an absent element returns immediately instead of throwing
      */
     protected boolean isDisplayed(By locator) {
+        if (elements().get(locator, WebElement::isDisplayed) != null) {
+            log.log(INTERACTION, "Element {} displayed: true", locator);
+            return true;
+        }
         try {
-            boolean displayed = driver.findElement(locator).isDisplayed();
-            log.info("Element " + locator + " displayed: " + displayed);
+            List<WebElement> found = driver.findElements(locator);
+            if (found.isEmpty()) {
+                log.log(INTERACTION, "Element {} not found", locator);
+                return false;
+            }
+            elements().put(locator, found.get(0));
+            boolean displayed = found.get(0).isDisplayed();
+            log.log(INTERACTION, "Element {} displayed: {}", locator, displayed);
             return displayed;
-        } catch (NoSuchElementException e) {
-            log.info("Element " + locator + " not found");
+        } catch (StaleElementReferenceException e) {
+            log.log(INTERACTION, "Element {} went stale", locator);
             return false;
         }
     }
@@ -86,9 +238,14 @@ public class BasePage {
      * Select from dropdown by visible text
      */
     protected void selectByVisibleText(By locator, String text) {
-        Select select = new Select(waitForElementVisible(locator));
-        select.selectByVisibleText(text);
-        log.info("Selected '" + text + "' from dropdown: " + locator);
+        long start = System.nanoTime();
+        withElement(locator, this::waitForElementVisible, element -> {
+            new Select(element).selectByVisibleText(text);
+            return null;
+        });
+        elements().clear();
+        TimingMetrics.record("action.selectByVisibleText", locator, System.nanoTime() - start);
+        log.log(INTERACTION, "Selected '{}' from dropdown: {}", text, locator);
     }
 
     /**
@@ -96,7 +253,7 @@ public class BasePage {
      */
     public String getPageTitle() {
         String title = driver.getTitle();
-        log.info("Page title: " + title);
+        log.log(INTERACTION, "Page title: {}", title);
         return title;
     }
 
@@ -105,7 +262,7 @@ public class BasePage {
      */
     public String getCurrentUrl() {
         String url = driver.getCurrentUrl();
-        log.info("Current URL: " + url);
+        log.log(INTERACTION, "Current URL: {}", url);
         return url;
     }
 
@@ -113,8 +270,11 @@ public class BasePage {
      * Navigate to URL
      */
     protected void navigateTo(String url) {
+        long start = System.nanoTime();
+        elements().clear();
         driver.get(url);
-        log.info("Navigated to: " + url);
+        TimingMetrics.record("action.navigateTo", url, System.nanoTime() - start);
+        log.info("Navigated to: {}", url);
     }
 
     /**
@@ -126,12 +286,36 @@ public class BasePage {
         log.info("Page loaded completely");
     }
 
+    /**
+     * Read all rows of a listing with a single executeScript call
+     */
+    @SuppressWarnings("unchecked")
+    protected List<ListingItem> readListing(String itemClassName) {
+        long start = System.nanoTime();
+        List<Map<String, Object>> rows = (List<Map<String, Object>>) ((JavascriptExecutor) driver)
+                .executeScript(READ_LISTING_SCRIPT, itemClassName);
+        TimingMetrics.record("action.readListing", itemClassName, System.nanoTime() - start);
+        List<ListingItem> items = new ArrayList<>(rows.size());
+        for (Map<String, Object> row : rows) {
+            items.add(new ListingItem(
+                    (String) row.get("itemId"),
+                    (String) row.get("name"),
+                    Double.parseDouble((String) row.get("price")),
+                    (String) row.get("buttonId"),
+                    (Boolean) row.get("inCart")));
+        }
+        log.log(INTERACTION, "Read {} rows of listing: {}", items::size, () -> itemClassName);
+        return items;
+    }
+
     /**
      * Scroll to element
      */
     protected void scrollToElement(By locator) {
-        WebElement element = driver.findElement(locator);
-        ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView(true);", element);
-        log.info("Scrolled to element: " + locator);
+        long start = System.nanoTime();
+        withElement(locator, this::findPresent,
+                element -> ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView(true);", element));
+        TimingMetrics.record("action.scrollToElement", locator, System.nanoTime() - start);
+        log.log(INTERACTION, "Scrolled to element: {}", locator);
     }
 }
\ No newline at end of file
@@ -11,13 +11,14 @@ import java.util.List;
  * Cart Page Object
  * Contains elements and methods for Shopping Cart page
  */
-public class CartPage extends BasePage {
+public class CartPage extends BasePage implements CartView {
+
+    // Listing row class, also used for batched reads
+    private static final String CART_ITEM_CLASS = "cart_item";
 
     // Locators
     private final By pageTitle = By.className("title");
-    private final By cartItems = By.className("cart_item");
-    private final By cartItemNames = By.className("inventory_item_name");
-    private final By cartItemPrices = By.className("inventory_item_price");
+    private final By cartItems = By.className(CART_ITEM_CLASS);
     private final By removeButtons = By.cssSelector("button[id^='remove']");
     private final By continueShoppingButton = By.id("continue-shopping");
     private final By checkoutButton = By.id("checkout");
@@ -52,13 +53,19 @@ public class CartPage extends BasePage {
         return count;
     }
 
+    /**
+     * Get all cart items (name, price, id, button state) in one round-trip
+     */
+    public List<ListingItem> getCartItems() {
+        return readListing(CART_ITEM_CLASS);
+    }
+
     /**
      * Get cart item names
      */
     public List<String> getCartItemNames() {
-        List<WebElement> items = driver.findElements(cartItemNames);
-        return items.stream()
-                .map(WebElement::getText)
+        return getCartItems().stream()
+                .map(ListingItem::name)
                 .collect(java.util.stream.Collectors.toList());
     }
 
@@ -105,12 +112,9 @@ public class CartPage extends BasePage {
      * Get total price of all items
      */
     public double getTotalPrice() {
-        List<WebElement> prices = driver.findElements(cartItemPrices);
-        double total = 0.0;
-        for (WebElement priceElement : prices) {
-            String priceText = priceElement.getText().replace("$", "");
-            total += Double.parseDouble(priceText);
-        }
+        double total = getCartItems().stream()
+                .mapToDouble(ListingItem::price)
+                .sum();
         log.info("Total cart price: $" + total);
         return total;
     }
@@ -0,0 +1,61 @@
+package pages;
+
+import java.util.List;
+
+/**
+ * Cart View
+ * Shopping cart as tests use it, implemented by the browser page object
+ * (CartPage) and the HTTP backend (api.HttpCartPage)
+ */
+public interface CartView {
+
+    /**
+     * Get page title
+     */
+    String getPageTitle();
+
+    /**
+     * Verify cart page is displayed
+     */
+    boolean isCartPageDisplayed();
+
+    /**
+     * Get number of items in cart
+     */
+    int getCartItemCount();
+
+    /**
+     * Get all cart items
+     */
+    List<ListingItem> getCartItems();
+
+    /**
+     * Get cart item names
+     */
+    List<String> getCartItemNames();
+
+    /**
+     * Remove item from cart by product name
+     */
+    CartView removeItem(String productName);
+
+    /**
+     * Click Continue Shopping
+     */
+    ProductsView continueShopping();
+
+    /**
+     * Click Checkout
+     */
+    CheckoutView checkout();
+
+    /**
+     * Verify product is in cart
+     */
+    boolean isProductInCart(String productName);
+
+    /**
+     * Get total price of all items
+     */
+    double getTotalPrice();
+}
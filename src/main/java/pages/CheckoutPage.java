@@ -8,7 +8,7 @@ import constants.AppConstants;
  * Checkout Page Object
  * Contains elements and methods for Checkout process
  */
-public class CheckoutPage extends BasePage {
+public class CheckoutPage extends BasePage implements CheckoutView {
 
     // Step One - Your Information
     private final By firstNameField = By.id("first-name");
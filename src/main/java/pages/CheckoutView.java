@@ -0,0 +1,84 @@
+package pages;
+
+/**
+ * Checkout View
+ * Checkout steps as tests use them, implemented by the browser page object
+ * (CheckoutPage) and the HTTP backend (api.HttpCheckoutPage)
+ */
+public interface CheckoutView {
+
+    /**
+     * Enter checkout information
+     */
+    CheckoutView enterCheckoutInformation(String firstName, String lastName, String postalCode);
+
+    /**
+     * Click Continue button (Step One)
+     */
+    CheckoutView clickContinue();
+
+    /**
+     * Click Cancel button
+     */
+    CartView clickCancel();
+
+    /**
+     * Get error message (Step One)
+     */
+    String getErrorMessage();
+
+    /**
+     * Verify checkout step one page
+     */
+    boolean isCheckoutStepOneDisplayed();
+
+    /**
+     * Verify checkout step two (overview) page
+     */
+    boolean isCheckoutStepTwoDisplayed();
+
+    /**
+     * Get page title
+     */
+    String getPageTitle();
+
+    /**
+     * Get subtotal
+     */
+    String getSubtotal();
+
+    /**
+     * Get tax
+     */
+    String getTax();
+
+    /**
+     * Get total
+     */
+    String getTotal();
+
+    /**
+     * Click Finish button
+     */
+    CheckoutView clickFinish();
+
+    /**
+     * Verify checkout complete page
+     */
+    boolean isCheckoutComplete();
+
+    /**
+     * Get completion message
+     */
+    String getCompleteMessage();
+
+    /**
+     * Click Back Home button
+     */
+    ProductsView clickBackHome();
+
+    /**
+     * Complete full checkout process
+     */
+    CheckoutView completeCheckout(String firstName, String lastName, String postalCode);
+}
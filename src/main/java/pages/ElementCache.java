@@ -0,0 +1,131 @@
+package pages;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import utils.ConfigReader;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * Element Cache
+ * Resolved elements of a driver's current document, keyed by locator, so
+ * repeated reads (title, cart badge...) skip the findElement round-trip. A
+ * cached element is only returned after a cheap check on the handle itself
+ * (e.g. isDisplayed); a stale handle is dropped and the caller resolves the
+ * locator again.
+ * There is one cache per thread for the thread's driver, shared by all its
+ * page objects: BasePage clears it on navigation and after clicks, which can
+ * route to another view or re-render elements under the same locator, so a
+ * click through one page object also drops the handles another one found.
+ * Hit, miss and stale counts of all pages are logged when the JVM exits.
+ * A cache is only used by its thread, so it is not synchronized.
+ */
+public class ElementCache {
+
+    private static final Logger log = LogManager.getLogger(ElementCache.class);
+
+    private static final boolean ENABLED = ConfigReader.getBoolean("element.cache.enabled");
+
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+    private static final LongAdder stale = new LongAdder();
+
+    // The cache of this thread's driver; replaced when the thread switches drivers
+    private static final ThreadLocal<ElementCache> current = new ThreadLocal<>();
+
+    private final WebDriver driver;
+    private final Map<By, WebElement> elements = new HashMap<>();
+
+    private ElementCache(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            if (hits.sum() + misses.sum() > 0) {
+                log.info("Element cache statistics: " + getStatistics());
+            }
+        }, "element-cache-summary"));
+    }
+
+    /**
+     * Cache of the driver's current document for this thread
+     */
+    public static ElementCache of(WebDriver driver) {
+        ElementCache cache = current.get();
+        if (cache == null || cache.driver != driver) {
+            cache = new ElementCache(driver);
+            current.set(cache);
+        }
+        return cache;
+    }
+
+    /**
+     * Cached element for locator if usable accepts it, null otherwise
+     * (not cached, not usable right now, or stale)
+     */
+    public WebElement get(By locator, Predicate<WebElement> usable) {
+        if (!ENABLED) {
+            return null;
+        }
+        WebElement element = elements.get(locator);
+        if (element != null) {
+            try {
+                if (usable.test(element)) {
+                    hits.increment();
+                    return element;
+                }
+            } catch (StaleElementReferenceException e) {
+                stale.increment();
+            }
+            elements.remove(locator);
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Remember the element resolved for locator
+     */
+    public void put(By locator, WebElement element) {
+        if (ENABLED) {
+            elements.put(locator, element);
+        }
+    }
+
+    /**
+     * Drop an element that went stale while being used
+     */
+    public void evictStale(By locator) {
+        if (elements.remove(locator) != null) {
+            stale.increment();
+        }
+    }
+
+    /**
+     * Drop all elements (the document changed or may have re-rendered)
+     */
+    public void clear() {
+        elements.clear();
+    }
+
+    /**
+     * Hit, miss and stale counts over all pages; stale counts cached handles
+     * that had to be resolved again
+     */
+    public static String getStatistics() {
+        long hitCount = hits.sum();
+        long staleCount = stale.sum();
+        long lookups = hitCount + misses.sum();
+        return String.format("lookups=%d, hits=%d (%.1f%%), misses=%d, stale=%d (%.1f%% of cached handles used)",
+                lookups, hitCount, lookups == 0 ? 0 : hitCount * 100.0 / lookups, misses.sum(), staleCount,
+                hitCount + staleCount == 0 ? 0 : staleCount * 100.0 / (hitCount + staleCount));
+    }
+}
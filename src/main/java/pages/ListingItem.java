@@ -0,0 +1,14 @@
+package pages;
+
+/**
+ * Listing Item
+ * One row of the inventory or cart listing, read in a single batched DOM query
+ *
+ * @param itemId     product id from the item link (e.g. "4")
+ * @param name       product name
+ * @param price      price in dollars
+ * @param buttonId   id of the row's add/remove button
+ * @param inCart     true if the button is a "Remove" button
+ */
+public record ListingItem(String itemId, String name, double price, String buttonId, boolean inCart) {
+}
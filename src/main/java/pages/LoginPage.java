@@ -3,12 +3,14 @@ package pages;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import constants.AppConstants;
+import utils.ConfigReader;
+import utils.SessionStateCache;
 
 /**
  * Login Page Object
  * Contains elements and methods for Login page
  */
-public class LoginPage extends BasePage {
+public class LoginPage extends BasePage implements LoginView {
 
     // Locators
     private final By usernameField = By.id("user-name");
@@ -65,6 +67,82 @@ public class LoginPage extends BasePage {
         return new ProductsPage(driver);
     }
 
+    /**
+     * Login reusing the session state captured by an earlier UI login of the same user.
+     * The first login per user goes through the form; later ones inject the captured
+     * cookies and storage and open the inventory page directly. Falls back to the
+     * form if the injected state is rejected.
+     */
+    public ProductsPage loginWithSession(String username, String password) {
+        if (!ConfigReader.getBoolean("session.reuse")) {
+            navigateToLoginPage();
+            return login(username, password);
+        }
+
+        // Double-checked: restoring runs in parallel, only the first UI login per user holds the lock
+        ProductsPage restored = restoreCachedSession(username);
+        if (restored != null) {
+            return restored;
+        }
+        synchronized (SessionStateCache.lockFor(username)) {
+            // Another worker may have logged in and captured the state while this one waited
+            restored = restoreCachedSession(username);
+            if (restored != null) {
+                return restored;
+            }
+
+            navigateToLoginPage();
+            ProductsPage productsPage = login(username, password);
+            wait.until(d -> d.getCurrentUrl().contains(AppConstants.INVENTORY_URL)
+                    || !d.findElements(errorMessage).isEmpty());
+            if (getCurrentUrl().contains(AppConstants.INVENTORY_URL)) {
+                SessionStateCache.capture(driver, username);
+            }
+            return productsPage;
+        }
+    }
+
+    /**
+     * Restore the cached session of username, null if there is none or it was rejected
+     */
+    private ProductsPage restoreCachedSession(String username) {
+        SessionStateCache.SessionState state = SessionStateCache.get(username);
+        if (state == null) {
+            return null;
+        }
+        if (restoreSession(state)) {
+            log.info("Session restored for username: " + username);
+            return new ProductsPage(driver);
+        }
+        log.warn("Session state rejected for username: " + username + ", falling back to UI login");
+        synchronized (SessionStateCache.lockFor(username)) {
+            // Keep a state another worker captured in the meantime
+            if (SessionStateCache.get(username) == state) {
+                SessionStateCache.invalidate(username);
+            }
+        }
+        driver.manage().deleteAllCookies();
+        return null;
+    }
+
+    /**
+     * Inject cached session state and open the inventory page
+     */
+    private boolean restoreSession(SessionStateCache.SessionState state) {
+        // Cookies and storage can only be written while on the application origin
+        if (!getCurrentUrl().startsWith(AppConstants.LOGIN_PAGE_URL)) {
+            navigateTo(AppConstants.LOGIN_PAGE_URL);
+        }
+        try {
+            SessionStateCache.inject(driver, state);
+        } catch (Exception e) {
+            log.warn("Failed to inject session state: " + e.getMessage());
+            return false;
+        }
+        navigateTo(AppConstants.INVENTORY_URL);
+        return getCurrentUrl().contains(AppConstants.INVENTORY_URL);
+    }
+
     /**
      * Get error message
      */
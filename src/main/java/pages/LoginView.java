@@ -0,0 +1,54 @@
+package pages;
+
+/**
+ * Login View
+ * Login flow as tests use it, implemented by the browser page object
+ * (LoginPage) and the HTTP backend (api.HttpLoginPage)
+ */
+public interface LoginView {
+
+    /**
+     * Navigate to login page
+     */
+    LoginView navigateToLoginPage();
+
+    /**
+     * Enter username
+     */
+    LoginView enterUsername(String username);
+
+    /**
+     * Enter password
+     */
+    LoginView enterPassword(String password);
+
+    /**
+     * Click login button
+     */
+    void clickLoginButton();
+
+    /**
+     * Perform complete login
+     */
+    ProductsView login(String username, String password);
+
+    /**
+     * Login reusing the session state of an earlier login of the same user where supported
+     */
+    ProductsView loginWithSession(String username, String password);
+
+    /**
+     * Get error message
+     */
+    String getErrorMessage();
+
+    /**
+     * Check if error message is displayed
+     */
+    boolean isErrorMessageDisplayed();
+
+    /**
+     * Check if logo is displayed
+     */
+    boolean isLogoDisplayed();
+}
@@ -1,32 +1,32 @@
 package pages;
 
 import org.openqa.selenium.By;
-import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ElementClickInterceptedException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 import constants.AppConstants;
 
-import java.time.Duration;
 import java.util.List;
+import java.util.Locale;
 
 /**
  * Products Page Object
  * Contains elements and methods for Products/Inventory page
  */
-public class ProductsPage extends BasePage {
+public class ProductsPage extends BasePage implements ProductsView {
+
+    // Listing row class, also used for batched reads
+    private static final String INVENTORY_ITEM_CLASS = "inventory_item";
 
     // Locators
     private final By pageTitle = By.className("title");
     private final By hamburgerMenu = By.id("react-burger-menu-btn");
     private final By logoutLink = By.id("logout_sidebar_link");
+    private final By sideMenu = By.className("bm-menu-wrap");
     private final By shoppingCartBadge = By.className("shopping_cart_badge");
     private final By shoppingCartLink = By.className("shopping_cart_link");
-    private final By productItems = By.className("inventory_item");
+    private final By productItems = By.className(INVENTORY_ITEM_CLASS);
     private final By productSortDropdown = By.className("product_sort_container");
-    private final By inventoryItemName = By.className("inventory_item_name");
-    private final By inventoryItemPrice = By.className("inventory_item_price");
     private final By addToCartButtons = By.cssSelector("button[id^='add-to-cart']");
     private final By removeButtons = By.cssSelector("button[id^='remove']");
 
@@ -111,84 +111,53 @@ public class ProductsPage extends BasePage {
     }
 
     /**
-     * Open hamburger menu (FIXED - with proper wait and fallback)
+     * Open hamburger menu and wait for its slide-in transition to finish
      */
     public ProductsPage openMenu() {
         try {
-            // Wait a moment for any animations to complete
-            Thread.sleep(500);
-
-            // Try regular click first
-            try {
-                WebElement menuButton = waitForElementClickable(hamburgerMenu);
-                menuButton.click();
-                log.info("Hamburger menu clicked (regular)");
-            } catch (Exception e) {
-                // Fallback to JavaScript click
-                log.info("Regular click failed, using JavaScript click");
-                WebElement menuButton = driver.findElement(hamburgerMenu);
-                JavascriptExecutor js = (JavascriptExecutor) driver;
-                js.executeScript("arguments[0].click();", menuButton);
-                log.info("Hamburger menu clicked (JavaScript)");
-            }
-
-            // Wait for menu to be visible
-            Thread.sleep(800);
-
-        } catch (InterruptedException e) {
-            log.error("Thread interrupted while opening menu: " + e.getMessage());
+            click(hamburgerMenu);
+        } catch (ElementClickInterceptedException e) {
+            log.info("Regular click failed, using JavaScript click");
+            clickWithJavaScript(hamburgerMenu);
         }
 
+        waitForAnimationToComplete(sideMenu);
+        waitForElementClickable(logoutLink);
         log.info("Hamburger menu opened");
         return this;
     }
 
     /**
-     * Logout (FIXED - with proper menu handling)
+     * Logout
      */
     public LoginPage logout() {
-        // Open menu first
         openMenu();
 
         try {
-            // Wait for logout link to be clickable
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(5));
-            WebElement logoutElement = wait.until(
-                    ExpectedConditions.elementToBeClickable(logoutLink)
-            );
-
-            // Try regular click
-            try {
-                logoutElement.click();
-                log.info("Logout clicked (regular)");
-            } catch (Exception e) {
-                // Fallback to JavaScript click
-                log.info("Regular logout click failed, using JavaScript");
-                JavascriptExecutor js = (JavascriptExecutor) driver;
-                js.executeScript("arguments[0].click();", logoutElement);
-                log.info("Logout clicked (JavaScript)");
-            }
-
-        } catch (Exception e) {
-            log.error("Failed to click logout: " + e.getMessage());
-            // One more attempt with JavaScript
-            WebElement logoutElement = driver.findElement(logoutLink);
-            JavascriptExecutor js = (JavascriptExecutor) driver;
-            js.executeScript("arguments[0].click();", logoutElement);
-            log.info("Logout clicked (JavaScript fallback)");
+            click(logoutLink);
+        } catch (ElementClickInterceptedException e) {
+            log.info("Regular logout click failed, using JavaScript");
+            clickWithJavaScript(logoutLink);
         }
 
         log.info("User logged out");
         return new LoginPage(driver);
     }
 
+    /**
+     * Get all products (name, price, id, button state) in one round-trip
+     */
+    public List<ListingItem> getProducts() {
+        return readListing(INVENTORY_ITEM_CLASS);
+    }
+
     /**
      * Get first product name
      */
     public String getFirstProductName() {
-        List<WebElement> products = driver.findElements(inventoryItemName);
+        List<ListingItem> products = getProducts();
         if (!products.isEmpty()) {
-            return products.get(0).getText();
+            return products.get(0).name();
         }
         return null;
     }
@@ -197,10 +166,11 @@ public class ProductsPage extends BasePage {
      * Get first product price
      */
     public String getFirstProductPrice() {
-        List<WebElement> prices = driver.findElements(inventoryItemPrice);
-        if (!prices.isEmpty()) {
-            return prices.get(0).getText();
+        List<ListingItem> products = getProducts();
+        if (!products.isEmpty()) {
+            // ROOT: the site always shows "$29.99", whatever the JVM's locale
+            return String.format(Locale.ROOT, "$%.2f", products.get(0).price());
         }
         return null;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,71 @@
+package pages;
+
+import java.util.List;
+
+/**
+ * Products View
+ * Inventory page as tests use it, implemented by the browser page object
+ * (ProductsPage) and the HTTP backend (api.HttpProductsPage)
+ */
+public interface ProductsView {
+
+    /**
+     * Get page title text
+     */
+    String getPageTitle();
+
+    /**
+     * Verify products page is displayed
+     */
+    boolean isProductsPageDisplayed();
+
+    /**
+     * Get number of products displayed
+     */
+    int getProductCount();
+
+    /**
+     * Add product to cart by name
+     */
+    ProductsView addProductToCart(String productName);
+
+    /**
+     * Remove product from cart by name
+     */
+    ProductsView removeProductFromCart(String productName);
+
+    /**
+     * Get cart item count
+     */
+    int getCartItemCount();
+
+    /**
+     * Click on shopping cart
+     */
+    CartView clickShoppingCart();
+
+    /**
+     * Sort products by the visible text of a sort option
+     */
+    ProductsView sortProducts(String sortOption);
+
+    /**
+     * Logout
+     */
+    LoginView logout();
+
+    /**
+     * Get all products in listing order
+     */
+    List<ListingItem> getProducts();
+
+    /**
+     * Get first product name
+     */
+    String getFirstProductName();
+
+    /**
+     * Get first product price
+     */
+    String getFirstProductPrice();
+}
@@ -0,0 +1,81 @@
+package utils;
+
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Adaptive Wait
+ * Explicit wait with a backoff poll schedule: polls quickly at first (most
+ * conditions are met within a few tens of ms) and backs off to a ceiling
+ * for slow ones. Drop-in replacement for WebDriverWait.until().
+ */
+public class AdaptiveWait {
+
+    private static final double BACKOFF_FACTOR = 1.5;
+
+    private final WebDriver driver;
+    private final long timeoutMillis;
+    private final long minPollMillis;
+    private final long maxPollMillis;
+
+    public AdaptiveWait(WebDriver driver, Duration timeout, Duration minPoll, Duration maxPoll) {
+        this.driver = driver;
+        this.timeoutMillis = timeout.toMillis();
+        this.minPollMillis = minPoll.toMillis();
+        this.maxPollMillis = maxPoll.toMillis();
+    }
+
+    /**
+     * Wait until condition returns a non-null, non-false value
+     */
+    public <T> T until(Function<? super WebDriver, T> condition) {
+        return until(condition, null, null);
+    }
+
+    /**
+     * Wait until condition returns a non-null, non-false value and record
+     * the wait latency as waitKind/subject (e.g. "wait.visible"/locator) if waitKind is not null
+     */
+    public <T> T until(Function<? super WebDriver, T> condition, String waitKind, Object subject) {
+        long start = System.nanoTime();
+        long deadline = start + timeoutMillis * 1_000_000;
+        long poll = minPollMillis;
+        RuntimeException lastError = null;
+
+        try {
+            while (true) {
+                try {
+                    T value = condition.apply(driver);
+                    if (value != null && !Boolean.FALSE.equals(value)) {
+                        return value;
+                    }
+                } catch (NotFoundException | StaleElementReferenceException e) {
+                    lastError = e;
+                }
+
+                long remainingMillis = (deadline - System.nanoTime()) / 1_000_000;
+                if (remainingMillis <= 0) {
+                    throw new TimeoutException("Expected condition failed: waiting for " + condition
+                            + " (tried for " + timeoutMillis + " ms with adaptive polling)", lastError);
+                }
+
+                try {
+                    Thread.sleep(Math.min(poll, remainingMillis));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("Interrupted while waiting for " + condition, e);
+                }
+                poll = Math.min(maxPollMillis, (long) (poll * BACKOFF_FACTOR));
+            }
+        } finally {
+            if (waitKind != null) {
+                TimingMetrics.record(waitKind, subject, System.nanoTime() - start);
+            }
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Browser Contexts
+ * One browser process per worker thread; every test gets a fresh isolated
+ * browser context (like an incognito profile: own cookies, storage and cache)
+ * opened through CDP Target.createBrowserContext, and disposing the context
+ * afterwards throws all of its state away. Opening a context costs a fraction
+ * of a browser launch.
+ * CDP needs Chrome or Edge; other browsers fall back to a new browser per test.
+ */
+public class BrowserContexts {
+
+    private static final Logger log = LogManager.getLogger(BrowserContexts.class);
+
+    private static final ThreadLocal<Browser> browser = new ThreadLocal<>();
+    private static final Queue<Browser> browsers = new ConcurrentLinkedQueue<>();
+
+    // Statistics
+    private static final LongAdder launches = new LongAdder();
+    private static final LongAdder contexts = new LongAdder();
+    private static final LongAdder fallbacks = new LongAdder();
+    private static final LongAdder totalOpenNanos = new LongAdder();
+
+    /**
+     * A worker thread's browser: the driver, its default window (left on
+     * about:blank) and the context of the running test
+     */
+    private static class Browser {
+        final WebDriver driver;
+        final String defaultWindow;
+        String contextId;
+
+        Browser(WebDriver driver) {
+            this.driver = driver;
+            this.defaultWindow = driver.getWindowHandle();
+        }
+    }
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(BrowserContexts::shutdown, "browser-contexts-shutdown"));
+    }
+
+    /**
+     * Driver switched to a new context in this thread's browser, launching
+     * the browser on first use or after it died
+     */
+    public static WebDriver open() {
+        Browser current = browser.get();
+        if (current != null && !isAlive(current.driver)) {
+            log.warn("Browser of this thread is no longer alive, replacing it");
+            discard(current);
+            current = null;
+        }
+        if (current == null) {
+            WebDriver driver = DriverManager.createDriver();
+            launches.increment();
+            if (!(driver instanceof HasCdp)) {
+                // No contexts without CDP: this driver serves one test and is quit after it
+                fallbacks.increment();
+                log.warn("Browser contexts need CDP (Chrome/Edge); using a new browser for this test");
+                return driver;
+            }
+            current = new Browser(driver);
+            browser.set(current);
+            browsers.add(current);
+        }
+
+        long start = System.nanoTime();
+        HasCdp cdp = (HasCdp) current.driver;
+        String contextId = (String) cdp.executeCdpCommand("Target.createBrowserContext", Map.of())
+                .get("browserContextId");
+        current.contextId = contextId;
+        Set<String> windows = new HashSet<>(current.driver.getWindowHandles());
+        cdp.executeCdpCommand("Target.createTarget", Map.of("url", "about:blank", "browserContextId", contextId));
+        // Handles are not documented to equal target ids, so pick the window that just appeared
+        String window = current.driver.getWindowHandles().stream().filter(handle -> !windows.contains(handle))
+                .findFirst().orElseThrow(() -> new RuntimeException("No window opened for browser context " + contextId));
+        current.driver.switchTo().window(window);
+        current.driver.manage().window().maximize();
+        NetworkPolicy.applyToContext(current.driver);
+        contexts.increment();
+        totalOpenNanos.add(System.nanoTime() - start);
+        log.info("Browser context opened");
+        return current.driver;
+    }
+
+    /**
+     * Dispose the test's context (closing its windows) and keep the browser
+     * for the next test; a browser that fails to dispose it is quit
+     */
+    public static void close(WebDriver driver) {
+        Browser current = browser.get();
+        if (current == null || current.driver != driver) {
+            driver.quit();
+            log.info("Driver quit successfully");
+            return;
+        }
+        try {
+            current.driver.switchTo().window(current.defaultWindow);
+            ((HasCdp) current.driver).executeCdpCommand("Target.disposeBrowserContext",
+                    Map.of("browserContextId", current.contextId));
+            log.info("Browser context disposed");
+        } catch (Exception e) {
+            log.warn("Failed to dispose browser context, quitting the browser: " + e.getMessage());
+            discard(current);
+        } finally {
+            current.contextId = null;
+        }
+    }
+
+    private static boolean isAlive(WebDriver driver) {
+        try {
+            driver.getWindowHandles();
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static void discard(Browser dead) {
+        browser.remove();
+        browsers.remove(dead);
+        try {
+            dead.driver.quit();
+        } catch (Exception e) {
+            log.debug("Ignoring error while quitting browser: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Get browser context statistics summary
+     */
+    public static String getStatistics() {
+        long count = contexts.sum();
+        double avgOpenMs = count == 0 ? 0 : totalOpenNanos.sum() / 1_000_000.0 / count;
+        return String.format("browsers=%d, contexts=%d, avgContextOpen=%.1fms, fallbackLaunches=%d",
+                launches.sum() - fallbacks.sum(), count, avgOpenMs, fallbacks.sum());
+    }
+
+    /**
+     * Quit all browsers and log statistics
+     */
+    private static void shutdown() {
+        if (launches.sum() > 0) {
+            log.info("Browser context statistics: " + getStatistics());
+        }
+        Browser remaining;
+        while ((remaining = browsers.poll()) != null) {
+            try {
+                remaining.driver.quit();
+            } catch (Exception e) {
+                log.debug("Ignoring error while quitting browser: " + e.getMessage());
+            }
+        }
+    }
+}
@@ -1,49 +1,277 @@
 package utils;
 
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 
 /**
  * Configuration Reader
- * Reads properties from config.properties file
+ * Builds an immutable configuration snapshot once, layering (lowest first):
+ * config/config.properties from the classpath, the config.profile overlay
+ * (config/config-<profile>.properties, e.g. staging or prod), environment
+ * variables (SAUCEDEMO_ + key in upper case with '_' for '.', e.g.
+ * SAUCEDEMO_EXPLICIT_WAIT) and system properties (-Dkey=value).
+ * A system property is honoured for any key; one not defined in the files is
+ * read when it is looked up. SAUCEDEMO_ variables that match no key are
+ * reported at startup. Numbers and booleans of defined keys are parsed once,
+ * so lookups are plain reads of immutable maps.
  */
 public class ConfigReader {
 
-    private static Properties properties;
+    private static final Logger log = LogManager.getLogger(ConfigReader.class);
+
+    private static final String CONFIG_RESOURCE = "config/config.properties";
+    // Fallback for classpaths without test resources (e.g. exec:java on the main scope)
     private static final String CONFIG_FILE_PATH = "src/test/resources/config/config.properties";
+    private static final String ENV_PREFIX = "SAUCEDEMO_";
+
+    private enum Type { INT, LONG, DOUBLE, BOOLEAN }
+
+    // Keys checked at startup; a bad value fails the run before any browser is launched
+    private static final Map<String, Type> TYPED_KEYS = Map.ofEntries(
+            Map.entry("explicit.wait", Type.INT),
+            Map.entry("page.load.timeout", Type.INT),
+            Map.entry("wait.poll.min.millis", Type.LONG),
+            Map.entry("wait.poll.max.millis", Type.LONG),
+            Map.entry("driver.pool.size", Type.INT),
+            Map.entry("driver.pool.lease.timeout", Type.LONG),
+            Map.entry("driver.binary.offline", Type.BOOLEAN),
+            Map.entry("grid.status.poll.millis", Type.LONG),
+            Map.entry("grid.queue.timeout", Type.LONG),
+            Map.entry("thread.count", Type.INT),
+            Map.entry("parallel.execution", Type.BOOLEAN),
+            Map.entry("headless", Type.BOOLEAN),
+            Map.entry("session.reuse", Type.BOOLEAN),
+            Map.entry("screenshots.enabled", Type.BOOLEAN),
+            Map.entry("screenshot.jpeg.quality", Type.DOUBLE),
+            Map.entry("screenshot.writer.threads", Type.INT),
+            Map.entry("screenshot.writer.queue.size", Type.INT),
+            Map.entry("extent.flush.every.tests", Type.INT),
+            Map.entry("extent.flush.interval.seconds", Type.LONG),
+            Map.entry("local.server.port", Type.INT),
+            Map.entry("local.server.latency.millis", Type.LONG),
+            Map.entry("element.cache.enabled", Type.BOOLEAN),
+            Map.entry("metrics.driver.commands", Type.BOOLEAN),
+            Map.entry("network.policy.enabled", Type.BOOLEAN),
+            Map.entry("network.cache.max.age.hours", Type.LONG),
+            Map.entry("shard.index", Type.INT),
+            Map.entry("shard.total", Type.INT),
+            Map.entry("circuit.breaker.threshold", Type.INT),
+            Map.entry("circuit.breaker.retry.seconds", Type.LONG));
+
+    private static final Map<String, String> values;
+    private static final Map<String, Long> longValues;
+    private static final Map<String, Double> doubleValues;
 
     /**
      * Load configuration
      */
     static {
-        try {
-            FileInputStream fis = new FileInputStream(CONFIG_FILE_PATH);
-            properties = new Properties();
-            properties.load(fis);
-            fis.close();
+        Map<String, String> merged = new HashMap<>();
+        Map<String, String> overrides = new TreeMap<>();
+        String source = load(CONFIG_RESOURCE, merged, true);
+
+        String profile = System.getProperty("config.profile",
+                System.getenv().getOrDefault(ENV_PREFIX + "CONFIG_PROFILE", merged.getOrDefault("config.profile", "")));
+        if (!profile.isBlank()) {
+            Map<String, String> overlay = new HashMap<>();
+            String resource = "config/config-" + profile + ".properties";
+            if (load(resource, overlay, false) == null) {
+                throw new RuntimeException("Unknown config profile '" + profile + "': " + resource + " not found");
+            }
+            overlay.forEach((key, value) -> overrides.put(key, "profile " + profile));
+            merged.putAll(overlay);
+        }
+
+        Set<String> unmatchedEnv = new TreeSet<>();
+        System.getenv().keySet().stream().filter(name -> name.startsWith(ENV_PREFIX)).forEach(unmatchedEnv::add);
+        unmatchedEnv.remove(ENV_PREFIX + "CONFIG_PROFILE");
+        for (String key : List.copyOf(merged.keySet())) {
+            String env = System.getenv(ENV_PREFIX + key.toUpperCase().replace('.', '_'));
+            unmatchedEnv.remove(ENV_PREFIX + key.toUpperCase().replace('.', '_'));
+            if (env != null) {
+                merged.put(key, env);
+                overrides.put(key, "env " + ENV_PREFIX + key.toUpperCase().replace('.', '_'));
+            }
+            String property = System.getProperty(key);
+            if (property != null) {
+                merged.put(key, property);
+                overrides.put(key, "-D" + key);
+            }
+        }
+
+        Map<String, Long> longs = new HashMap<>();
+        Map<String, Double> doubles = new HashMap<>();
+        merged.forEach((key, value) -> {
+            String trimmed = value.trim();
+            try {
+                longs.put(key, Long.parseLong(trimmed));
+            } catch (NumberFormatException e) {
+                // Not an integer
+            }
+            try {
+                doubles.put(key, Double.parseDouble(trimmed));
+            } catch (NumberFormatException e) {
+                // Not a number
+            }
+        });
+        values = Map.copyOf(merged);
+        longValues = Map.copyOf(longs);
+        doubleValues = Map.copyOf(doubles);
+
+        validate(source, profile, overrides, unmatchedEnv);
+    }
+
+    /**
+     * Load a properties resource into target; returns where it was loaded from,
+     * null if an optional resource does not exist
+     */
+    private static String load(String resource, Map<String, String> target, boolean required) {
+        Properties properties = new Properties();
+        String source;
+        try (InputStream in = ConfigReader.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in != null) {
+                properties.load(in);
+                source = "classpath:" + resource;
+            } else if (required) {
+                try (InputStream file = new FileInputStream(CONFIG_FILE_PATH)) {
+                    properties.load(file);
+                }
+                source = CONFIG_FILE_PATH;
+            } else {
+                return null;
+            }
         } catch (IOException e) {
-            e.printStackTrace();
-            throw new RuntimeException("Failed to load config file: " + CONFIG_FILE_PATH);
+            throw new RuntimeException("Failed to load config file: " + resource, e);
+        }
+        properties.stringPropertyNames().forEach(key -> target.put(key, properties.getProperty(key)));
+        return source;
+    }
+
+    /**
+     * Log where the configuration came from and what was overridden;
+     * fail on values that do not match their type or an unknown app.target
+     */
+    private static void validate(String source, String profile, Map<String, String> overrides,
+                                 Set<String> unmatchedEnv) {
+        List<String> errors = new ArrayList<>();
+        TYPED_KEYS.forEach((key, type) -> {
+            String value = values.get(key);
+            if (value == null) {
+                errors.add(key + " is missing");
+                return;
+            }
+            boolean valid = switch (type) {
+                case INT -> longValues.containsKey(key)
+                        && longValues.get(key) == longValues.get(key).intValue();
+                case LONG -> longValues.containsKey(key);
+                case DOUBLE -> doubleValues.containsKey(key);
+                case BOOLEAN -> "true".equalsIgnoreCase(value.trim()) || "false".equalsIgnoreCase(value.trim());
+            };
+            if (!valid) {
+                errors.add(key + "=" + value + " is not a valid " + type.name().toLowerCase());
+            }
+        });
+        String target = values.get("app.target");
+        if (target == null || (!"local".equalsIgnoreCase(target) && !values.containsKey(target + ".url"))) {
+            errors.add("app.target=" + target + " has no matching <target>.url");
+        }
+
+        StringBuilder report = new StringBuilder("Configuration loaded from " + source);
+        if (!profile.isBlank()) {
+            report.append(" with profile '").append(profile).append("'");
+        }
+        report.append(", ").append(values.size()).append(" keys");
+        overrides.forEach((key, from) -> report.append("\n  ").append(key).append('=')
+                .append(key.contains("password") ? "****" : values.get(key)).append(" (").append(from).append(')'));
+        log.info(report.toString());
+        if (!unmatchedEnv.isEmpty()) {
+            log.warn("Ignoring environment variables that match no configured key: " + unmatchedEnv);
+        }
+
+        if (!errors.isEmpty()) {
+            throw new RuntimeException("Invalid configuration:\n  " + String.join("\n  ", errors));
         }
     }
 
     /**
-     * Get property value
+     * Get property value; a key not in the files falls back to its system
+     * property (null if neither is set)
      */
     public static String getProperty(String key) {
-        String value = System.getProperty(key);
-        if (value == null) {
-            value = properties.getProperty(key);
+        String value = values.get(key);
+        return value != null ? value : System.getProperty(key);
+    }
+
+    /**
+     * Get integer property
+     */
+    public static int getInt(String key) {
+        return Math.toIntExact(getLong(key));
+    }
+
+    /**
+     * Get long property
+     */
+    public static long getLong(String key) {
+        Long value = longValues.get(key);
+        if (value != null) {
+            return value;
+        }
+        try {
+            return Long.parseLong(String.valueOf(getProperty(key)).trim());
+        } catch (NumberFormatException e) {
+            throw new RuntimeException("Config property " + key + " is not an integer: " + getProperty(key));
+        }
+    }
+
+    /**
+     * Get decimal property
+     */
+    public static double getDouble(String key) {
+        Double value = doubleValues.get(key);
+        if (value != null) {
+            return value;
+        }
+        try {
+            return Double.parseDouble(String.valueOf(getProperty(key)).trim());
+        } catch (NumberFormatException e) {
+            throw new RuntimeException("Config property " + key + " is not a number: " + getProperty(key));
         }
-        return value;
     }
 
     /**
-     * Get base URL
+     * Get boolean property (false unless the value is "true")
+     */
+    public static boolean getBoolean(String key) {
+        return Boolean.parseBoolean(getProperty(key));
+    }
+
+    /**
+     * Get base URL for app.target: "local" starts the in-JVM stand-in server,
+     * any other value selects the matching <target>.url (base, staging, prod)
      */
     public static String getBaseUrl() {
-        return getProperty("base.url");
+        if (LocalAppServer.isEnabled()) {
+            return LocalAppServer.start();
+        }
+        String target = getProperty("app.target");
+        String url = getProperty(target + ".url");
+        if (url == null) {
+            throw new RuntimeException("No URL configured for app.target: " + target);
+        }
+        return url;
     }
 
     /**
@@ -78,6 +306,20 @@ public class ConfigReader {
      * Get timeout
      */
     public static int getTimeout() {
-        return Integer.parseInt(getProperty("explicit.wait"));
+        return getInt("explicit.wait");
+    }
+
+    /**
+     * Check if parallel execution is enabled
+     */
+    public static boolean isParallelExecution() {
+        return getBoolean("parallel.execution");
+    }
+
+    /**
+     * Get number of parallel threads
+     */
+    public static int getThreadCount() {
+        return getInt("thread.count");
     }
-}
\ No newline at end of file
+}
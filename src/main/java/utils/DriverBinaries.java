@@ -0,0 +1,184 @@
+package utils;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Driver Binaries
+ * Resolves each browser's driver binary (chromedriver, geckodriver,
+ * msedgedriver) once per JVM instead of running WebDriverManager for every
+ * new driver. Resolved binaries are remembered in
+ * <driver.binary.dir>/drivers.properties, keyed by the installed browser's
+ * build (executable path, size and modification time), so later runs skip
+ * version detection until the browser is updated. A browser whose executable
+ * is not found has no build to key on and is left to WebDriverManager.
+ * WebDriverManager downloads into the same directory; with
+ * driver.binary.offline=true only that directory is used, so a pre-populated
+ * copy works without network access.
+ */
+public class DriverBinaries {
+
+    private static final Logger log = LogManager.getLogger(DriverBinaries.class);
+
+    private static final Path DIR = Paths.get(ConfigReader.getProperty("driver.binary.dir"));
+    private static final Path INDEX = DIR.resolve("drivers.properties");
+    private static final boolean OFFLINE = ConfigReader.getBoolean("driver.binary.offline");
+
+    private static final Map<String, String> SYSTEM_PROPERTIES = Map.of(
+            "chrome", "webdriver.chrome.driver",
+            "firefox", "webdriver.gecko.driver",
+            "edge", "webdriver.edge.driver");
+    private static final Map<String, String> BINARY_NAMES = Map.of(
+            "chrome", "chromedriver",
+            "firefox", "geckodriver",
+            "edge", "msedgedriver");
+
+    // Browser -> driver binary; computeIfAbsent resolves each browser once, under the map's lock
+    private static final Map<String, Path> resolved = new ConcurrentHashMap<>();
+
+    /**
+     * Point Selenium at the driver binary for browser (chrome, firefox or edge),
+     * resolving it on first use
+     */
+    public static void setup(String browser) {
+        Path binary = resolved.computeIfAbsent(browser, DriverBinaries::resolve);
+        System.setProperty(SYSTEM_PROPERTIES.get(browser), binary.toString());
+    }
+
+    private static Path resolve(String browser) {
+        long start = System.nanoTime();
+        try {
+            WebDriverManager manager = manager(browser);
+            String build = browserBuild(browser, manager);
+
+            if (build != null) {
+                Properties index = readIndex();
+                String cached = index.getProperty(build + ".driver");
+                if (cached != null && Files.isExecutable(Paths.get(cached))) {
+                    log.info("{} driver {} (version {}) taken from {}", browser, cached,
+                            index.getProperty(build + ".version"), INDEX);
+                    return Paths.get(cached);
+                }
+            }
+
+            if (OFFLINE) {
+                Path binary = findInDir(browser).orElseThrow(() -> new RuntimeException("No " + BINARY_NAMES.get(browser)
+                        + " in " + DIR.toAbsolutePath() + " and driver.binary.offline=true"));
+                log.info("{} driver {} found in {} (offline)", browser, binary, DIR);
+                return binary;
+            }
+
+            manager.setup();
+            Path binary = Paths.get(manager.getDownloadedDriverPath());
+            if (build != null) {
+                remember(build, binary, manager.getDownloadedDriverVersion());
+            }
+            log.info("{} driver {} (version {}) resolved by WebDriverManager", browser, binary,
+                    manager.getDownloadedDriverVersion());
+            return binary;
+        } finally {
+            TimingMetrics.record("driver.resolve", browser, System.nanoTime() - start);
+        }
+    }
+
+    private static WebDriverManager manager(String browser) {
+        WebDriverManager manager = switch (browser) {
+            case "firefox" -> WebDriverManager.firefoxdriver();
+            case "edge" -> WebDriverManager.edgedriver();
+            default -> WebDriverManager.chromedriver();
+        };
+        return manager.cachePath(DIR.toString());
+    }
+
+    /**
+     * Index key of the installed browser build; changes when the browser is updated.
+     * Null if the executable is not found: an update could not be told apart
+     */
+    private static String browserBuild(String browser, WebDriverManager manager) {
+        Optional<Path> executable = manager.getBrowserPath();
+        if (executable.isEmpty() || !Files.exists(executable.get())) {
+            log.debug("No {} executable found, driver index not used", browser);
+            return null;
+        }
+        try {
+            Path path = executable.get().toRealPath();
+            return browser + "@" + path + ":" + Files.size(path) + ":" + Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException e) {
+            log.debug("Cannot read {} executable {}, driver index not used: {}", browser, executable.get(), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Newest driver binary for browser anywhere under the directory
+     */
+    private static Optional<Path> findInDir(String browser) {
+        if (!Files.isDirectory(DIR)) {
+            return Optional.empty();
+        }
+        String name = BINARY_NAMES.get(browser);
+        try (Stream<Path> files = Files.walk(DIR)) {
+            return files.filter(file -> {
+                String fileName = file.getFileName().toString();
+                return (fileName.equals(name) || fileName.equals(name + ".exe")) && Files.isExecutable(file);
+            }).max(Comparator.comparingLong(DriverBinaries::lastModified));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to search " + DIR + " for " + name, e);
+        }
+    }
+
+    private static long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static Properties readIndex() {
+        Properties index = new Properties();
+        if (Files.isRegularFile(INDEX)) {
+            try (InputStream in = Files.newInputStream(INDEX)) {
+                index.load(in);
+            } catch (IOException e) {
+                log.warn("Ignoring unreadable driver index " + INDEX + ": " + e.getMessage());
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Add a resolved binary to the index; re-read first, another browser may have been added meanwhile.
+     * Written to a temp file and moved into place: parallel JVMs (shards) may read it meanwhile
+     */
+    private static synchronized void remember(String build, Path binary, String version) {
+        Properties index = readIndex();
+        index.setProperty(build + ".driver", binary.toAbsolutePath().toString());
+        index.setProperty(build + ".version", String.valueOf(version));
+        try {
+            Files.createDirectories(DIR);
+            Path temp = Files.createTempFile(DIR, "drivers", ".tmp");
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                index.store(out, "Driver binaries by browser build, written by DriverBinaries");
+            }
+            Files.move(temp, INDEX, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Failed to write driver index " + INDEX + ": " + e.getMessage());
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package utils;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
@@ -8,9 +7,12 @@ import org.openqa.selenium.edge.EdgeDriver;
 import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.support.events.EventFiringDecorator;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.time.Duration;
+
 /**
  * Driver Manager - Singleton Pattern
  * Manages WebDriver instances for different browsers
@@ -29,51 +31,110 @@ public class DriverManager {
 
     /**
      * Initialize WebDriver
+     * Leases a warm session from the pool in "pool" mode, opens a fresh browser
+     * context in this thread's browser in "context" mode, launches a new browser otherwise
      */
     public static void initializeDriver() {
+        if (driver.get() == null) {
+            if (isPoolMode()) {
+                driver.set(DriverPool.getInstance().lease());
+                log.info("Driver leased from pool");
+            } else if (isContextMode()) {
+                driver.set(BrowserContexts.open());
+            } else {
+                driver.set(createDriver());
+                driver.get().manage().deleteAllCookies();
+                log.info("Browser window maximized and cookies cleared");
+            }
+        }
+    }
+
+    /**
+     * Launch a new browser session for the configured browser,
+     * on the Selenium Grid at grid.url if one is set
+     */
+    static WebDriver createDriver() {
         String browser = ConfigReader.getProperty("browser");
         String headless = ConfigReader.getProperty("headless");
+        WebDriver newDriver;
 
-        if (driver.get() == null) {
-            switch (browser.toLowerCase()) {
-                case "chrome":
-                    WebDriverManager.chromedriver().setup();
-                    ChromeOptions chromeOptions = getChromeOptions();
-                    if ("true".equalsIgnoreCase(headless)) {
-                        chromeOptions.addArguments("--headless");
-                    }
-                    driver.set(new ChromeDriver(chromeOptions));
-                    log.info("Chrome Driver initialized");
-                    break;
-
-                case "firefox":
-                    WebDriverManager.firefoxdriver().setup();
-                    FirefoxOptions firefoxOptions = getFirefoxOptions();
-                    if ("true".equalsIgnoreCase(headless)) {
-                        firefoxOptions.addArguments("--headless");
-                    }
-                    driver.set(new FirefoxDriver(firefoxOptions));
-                    log.info("Firefox Driver initialized");
-                    break;
-
-                case "edge":
-                    WebDriverManager.edgedriver().setup();
-                    EdgeOptions edgeOptions = getEdgeOptions();
-                    driver.set(new EdgeDriver(edgeOptions));
-                    log.info("Edge Driver initialized");
-                    break;
-
-                default:
-                    log.warn("Browser '" + browser + "' not recognized. Using Chrome.");
-                    WebDriverManager.chromedriver().setup();
-                    driver.set(new ChromeDriver(getChromeOptions()));
-                    break;
-            }
+        switch (browser.toLowerCase()) {
+            case "chrome":
+                ChromeOptions chromeOptions = getChromeOptions();
+                if ("true".equalsIgnoreCase(headless)) {
+                    chromeOptions.addArguments("--headless");
+                }
+                if (GridScheduler.isEnabled()) {
+                    newDriver = GridScheduler.newSession(chromeOptions);
+                } else {
+                    DriverBinaries.setup("chrome");
+                    newDriver = new ChromeDriver(chromeOptions);
+                }
+                log.info("Chrome Driver initialized");
+                break;
 
-            driver.get().manage().window().maximize();
-            driver.get().manage().deleteAllCookies();
-            log.info("Browser window maximized and cookies cleared");
+            case "firefox":
+                FirefoxOptions firefoxOptions = getFirefoxOptions();
+                if ("true".equalsIgnoreCase(headless)) {
+                    firefoxOptions.addArguments("--headless");
+                }
+                if (GridScheduler.isEnabled()) {
+                    newDriver = GridScheduler.newSession(firefoxOptions);
+                } else {
+                    DriverBinaries.setup("firefox");
+                    newDriver = new FirefoxDriver(firefoxOptions);
+                }
+                log.info("Firefox Driver initialized");
+                break;
+
+            case "edge":
+                EdgeOptions edgeOptions = getEdgeOptions();
+                if (GridScheduler.isEnabled()) {
+                    newDriver = GridScheduler.newSession(edgeOptions);
+                } else {
+                    DriverBinaries.setup("edge");
+                    newDriver = new EdgeDriver(edgeOptions);
+                }
+                log.info("Edge Driver initialized");
+                break;
+
+            default:
+                log.warn("Browser '" + browser + "' not recognized. Using Chrome.");
+                if (GridScheduler.isEnabled()) {
+                    newDriver = GridScheduler.newSession(getChromeOptions());
+                } else {
+                    DriverBinaries.setup("chrome");
+                    newDriver = new ChromeDriver(getChromeOptions());
+                }
+                break;
         }
+
+        newDriver.manage().window().maximize();
+        // Explicit waits only: an implicit wait would stack with them and stall negative checks
+        newDriver.manage().timeouts().implicitlyWait(Duration.ZERO);
+
+        // Block, cache and time network requests (DevTools browsers only)
+        NetworkPolicy.apply(newDriver);
+
+        // Time every WebDriver command into TimingMetrics
+        if (ConfigReader.getBoolean("metrics.driver.commands")) {
+            newDriver = new EventFiringDecorator<>(new TimingWebDriverListener()).decorate(newDriver);
+        }
+        return newDriver;
+    }
+
+    /**
+     * Check if drivers are served from the warm pool
+     */
+    private static boolean isPoolMode() {
+        return "pool".equalsIgnoreCase(ConfigReader.getProperty("driver.mode"));
+    }
+
+    /**
+     * Check if tests get browser contexts in a per-thread browser
+     */
+    private static boolean isContextMode() {
+        return "context".equalsIgnoreCase(ConfigReader.getProperty("driver.mode"));
     }
 
     /**
@@ -114,12 +175,21 @@ public class DriverManager {
 
     /**
      * Quit WebDriver
+     * In "pool" mode the session is reset and returned to the pool instead,
+     * in "context" mode only the test's browser context is disposed
      */
     public static void quitDriver() {
         if (driver.get() != null) {
-            driver.get().quit();
+            if (isPoolMode()) {
+                DriverPool.getInstance().release(driver.get());
+                log.info("Driver returned to pool");
+            } else if (isContextMode()) {
+                BrowserContexts.close(driver.get());
+            } else {
+                driver.get().quit();
+                log.info("Driver quit successfully");
+            }
             driver.remove();
-            log.info("Driver quit successfully");
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,243 @@
+package utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Driver Pool
+ * Bounded, thread-safe pool of pre-launched WebDriver sessions.
+ * Sessions are reset between leases and replaced when they die.
+ * All sessions, idle or leased, are quit when the JVM exits.
+ */
+public class DriverPool {
+
+    private static final Logger log = LogManager.getLogger(DriverPool.class);
+    private static volatile DriverPool instance;
+
+    private final int size;
+    private final long leaseTimeoutSeconds;
+    private final BlockingQueue<WebDriver> idle;
+    private final Map<WebDriver, AtomicInteger> leaseCounts = new ConcurrentHashMap<>();
+    private final AtomicInteger created = new AtomicInteger();
+
+    // Statistics
+    private final LongAdder leases = new LongAdder();
+    private final LongAdder reuses = new LongAdder();
+    private final LongAdder replacements = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    private DriverPool(int size, long leaseTimeoutSeconds) {
+        this.size = size;
+        this.leaseTimeoutSeconds = leaseTimeoutSeconds;
+        this.idle = new ArrayBlockingQueue<>(size);
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "driver-pool-shutdown"));
+    }
+
+    /**
+     * Get pool instance (created and pre-warmed on first use)
+     */
+    public static DriverPool getInstance() {
+        if (instance == null) {
+            synchronized (DriverPool.class) {
+                if (instance == null) {
+                    DriverPool pool = new DriverPool(
+                            ConfigReader.getInt("driver.pool.size"),
+                            ConfigReader.getLong("driver.pool.lease.timeout"));
+                    pool.warmUp();
+                    instance = pool;
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Launch all sessions up front, in parallel
+     */
+    private void warmUp() {
+        ExecutorService launcher = Executors.newFixedThreadPool(size);
+        try {
+            List<Future<WebDriver>> launches = new ArrayList<>();
+            for (int i = 0; i < size && reserveSlot(); i++) {
+                launches.add(launcher.submit(this::launchInReservedSlot));
+            }
+            for (Future<WebDriver> launch : launches) {
+                try {
+                    idle.offer(launch.get());
+                } catch (ExecutionException e) {
+                    // Slot stays free; it will be filled lazily on lease
+                    log.warn("Failed to pre-launch pooled driver: " + e.getCause().getMessage());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            launcher.shutdown();
+        }
+        log.info("Driver pool warmed up with " + idle.size() + "/" + size + " sessions");
+    }
+
+    /**
+     * Lease a clean, live session from the pool
+     */
+    public WebDriver lease() {
+        long start = System.nanoTime();
+        try {
+            WebDriver session = null;
+            while (session == null) {
+                session = idle.poll();
+                if (session == null) {
+                    if (reserveSlot()) {
+                        session = launchInReservedSlot();
+                    } else {
+                        session = idle.poll(leaseTimeoutSeconds, TimeUnit.SECONDS);
+                        if (session == null) {
+                            throw new RuntimeException("Timed out after " + leaseTimeoutSeconds
+                                    + "s waiting for a pooled driver (pool size " + size + ")");
+                        }
+                    }
+                }
+
+                if (!isAlive(session)) {
+                    log.warn("Pooled driver is no longer alive, replacing it");
+                    discard(session);
+                    replacements.increment();
+                    session = null;
+                }
+            }
+
+            int useCount = leaseCounts.get(session).incrementAndGet();
+            if (useCount > 1) {
+                reuses.increment();
+            }
+            return session;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for a pooled driver", e);
+        } finally {
+            long waited = System.nanoTime() - start;
+            leases.increment();
+            totalWaitNanos.add(waited);
+            maxWaitNanos.accumulateAndGet(waited, Math::max);
+        }
+    }
+
+    /**
+     * Return a session to the pool, resetting its state first
+     */
+    public void release(WebDriver session) {
+        try {
+            resetState(session);
+            if (!idle.offer(session)) {
+                // Should not happen with a bounded slot count, but never leak a browser
+                discard(session);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to reset pooled driver, discarding it: " + e.getMessage());
+            discard(session);
+        }
+    }
+
+    /**
+     * Clear cookies and storage, then park the session on about:blank
+     */
+    private void resetState(WebDriver session) {
+        try {
+            ((JavascriptExecutor) session).executeScript(
+                    "window.localStorage.clear(); window.sessionStorage.clear();");
+        } catch (Exception e) {
+            // Storage is not accessible on about:blank or data: URLs
+            log.debug("Storage not cleared: " + e.getMessage());
+        }
+        session.manage().deleteAllCookies();
+        session.get("about:blank");
+    }
+
+    private boolean isAlive(WebDriver session) {
+        try {
+            session.getWindowHandle();
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private boolean reserveSlot() {
+        int current;
+        do {
+            current = created.get();
+            if (current >= size) {
+                return false;
+            }
+        } while (!created.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    private WebDriver launchInReservedSlot() {
+        try {
+            return launch();
+        } catch (RuntimeException e) {
+            created.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private WebDriver launch() {
+        WebDriver session = DriverManager.createDriver();
+        leaseCounts.put(session, new AtomicInteger());
+        return session;
+    }
+
+    private void discard(WebDriver session) {
+        leaseCounts.remove(session);
+        created.decrementAndGet();
+        try {
+            session.quit();
+        } catch (Exception e) {
+            log.debug("Ignoring error while quitting discarded driver: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Get pool statistics summary
+     */
+    public String getStatistics() {
+        long count = leases.sum();
+        double avgWaitMs = count == 0 ? 0 : totalWaitNanos.sum() / 1_000_000.0 / count;
+        return String.format("leases=%d, reuses=%d, replacements=%d, avgLeaseWait=%.1fms, maxLeaseWait=%.1fms",
+                count, reuses.sum(), replacements.sum(), avgWaitMs, maxWaitNanos.get() / 1_000_000.0);
+    }
+
+    /**
+     * Quit all sessions and log statistics; sessions still leased (aborted test,
+     * failed @AfterMethod) are quit too, so no browser outlives the JVM
+     */
+    private void shutdown() {
+        log.info("Driver pool statistics: " + getStatistics());
+        int leased = leaseCounts.size() - idle.size();
+        if (leased > 0) {
+            log.warn("Quitting " + leased + " pooled drivers that were never released");
+        }
+        idle.clear();
+        // leaseCounts holds every live session, idle or leased
+        for (WebDriver session : leaseCounts.keySet()) {
+            try {
+                session.quit();
+            } catch (Exception e) {
+                log.debug("Ignoring error while quitting pooled driver: " + e.getMessage());
+            }
+        }
+        leaseCounts.clear();
+    }
+}
@@ -1,4 +1,199 @@
 package utils;
 
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+
+import java.io.File;
+import java.io.InputStream;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Excel Reader
+ * Reads test data sheets with POI's streaming (SAX) API, so the workbook is
+ * never loaded as a DOM. The first row of a sheet is the header row.
+ * Parsed sheets are cached per file + sheet and re-read when the file changes.
+ */
 public class ExcelReader {
+
+    private static final Logger log = LogManager.getLogger(ExcelReader.class);
+    private static final Map<String, CachedSheet> cache = new ConcurrentHashMap<>();
+
+    private record CachedSheet(long lastModified, SheetData data) {
+    }
+
+    /**
+     * Parsed sheet: header names and rows of cell values
+     */
+    public static final class SheetData {
+        private final Map<String, Integer> columns;
+        private final List<String[]> rows;
+
+        private SheetData(String[] headers, List<String[]> rows) {
+            Map<String, Integer> columnIndex = new HashMap<>();
+            for (int i = 0; i < headers.length; i++) {
+                columnIndex.put(headers[i], i);
+            }
+            this.columns = Collections.unmodifiableMap(columnIndex);
+            this.rows = Collections.unmodifiableList(rows);
+        }
+
+        public int size() {
+            return rows.size();
+        }
+
+        public TestDataRow row(int index) {
+            return new TestDataRow(columns, rows.get(index));
+        }
+
+        /**
+         * Lazily wrap rows; safe to consume from several threads
+         */
+        public Iterator<TestDataRow> iterator() {
+            return rows.stream().map(values -> new TestDataRow(columns, values)).iterator();
+        }
+    }
+
+    /**
+     * One data row with typed access by column name
+     */
+    public static final class TestDataRow {
+        private final Map<String, Integer> columns;
+        private final String[] values;
+
+        private TestDataRow(Map<String, Integer> columns, String[] values) {
+            this.columns = columns;
+            this.values = values;
+        }
+
+        public String getString(String column) {
+            Integer index = columns.get(column);
+            if (index == null) {
+                throw new IllegalArgumentException("Unknown test data column: " + column);
+            }
+            return index < values.length && values[index] != null ? values[index] : "";
+        }
+
+        public int getInt(String column) {
+            return (int) Double.parseDouble(getString(column));
+        }
+
+        public double getDouble(String column) {
+            return Double.parseDouble(getString(column));
+        }
+
+        public boolean getBoolean(String column) {
+            return Boolean.parseBoolean(getString(column));
+        }
+
+        @Override
+        public String toString() {
+            return Arrays.toString(values);
+        }
+    }
+
+    /**
+     * Get sheet data, parsing the file only if it is not cached or has changed
+     */
+    public static SheetData getSheet(String filePath, String sheetName) {
+        File file = new File(filePath);
+        long lastModified = file.lastModified();
+        String key = file.getAbsolutePath() + "#" + sheetName;
+
+        CachedSheet cached = cache.compute(key, (k, current) ->
+                current != null && current.lastModified() == lastModified
+                        ? current
+                        : new CachedSheet(lastModified, parse(file, sheetName)));
+        return cached.data();
+    }
+
+    /**
+     * Stream rows of a sheet through the SAX parser
+     */
+    private static SheetData parse(File file, String sheetName) {
+        long start = System.nanoTime();
+        try (OPCPackage pkg = OPCPackage.open(file, PackageAccess.READ)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+            StylesTable styles = reader.getStylesTable();
+
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+            while (sheets.hasNext()) {
+                try (InputStream sheet = sheets.next()) {
+                    if (!sheets.getSheetName().equals(sheetName)) {
+                        continue;
+                    }
+                    RowCollector collector = new RowCollector();
+                    XMLReader parser = XMLHelper.newXMLReader();
+                    parser.setContentHandler(new XSSFSheetXMLHandler(styles, strings, collector, false));
+                    parser.parse(new InputSource(sheet));
+
+                    SheetData data = collector.toSheetData();
+                    log.info("Parsed sheet '" + sheetName + "' (" + data.size() + " rows) in "
+                            + (System.nanoTime() - start) / 1_000_000 + " ms");
+                    return data;
+                }
+            }
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to read sheet '" + sheetName + "' from " + file, e);
+        }
+        throw new RuntimeException("Sheet '" + sheetName + "' not found in " + file);
+    }
+
+    /**
+     * Collects cell values row by row; the first row becomes the header
+     */
+    private static class RowCollector implements XSSFSheetXMLHandler.SheetContentsHandler {
+        private String[] headers;
+        private final List<String[]> rows = new ArrayList<>();
+        private final List<String> current = new ArrayList<>();
+
+        @Override
+        public void startRow(int rowNum) {
+            current.clear();
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            // Trim trailing empty cells
+            int last = current.size();
+            while (last > 0 && (current.get(last - 1) == null || current.get(last - 1).isEmpty())) {
+                last--;
+            }
+            if (last == 0) {
+                return;
+            }
+            String[] values = current.subList(0, last).toArray(new String[0]);
+            if (headers == null) {
+                headers = values;
+            } else {
+                rows.add(values);
+            }
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            // Empty cells are not reported, so pad up to this cell's column
+            int column = new CellReference(cellReference).getCol();
+            while (current.size() < column) {
+                current.add(null);
+            }
+            current.add(formattedValue);
+        }
+
+        SheetData toSheetData() {
+            return new SheetData(headers == null ? new String[0] : headers, rows);
+        }
+    }
 }
@@ -3,23 +3,49 @@ package utils;
 import com.aventstack.extentreports.ExtentReports;
 import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.reporter.ExtentSparkReporter;
+import com.aventstack.extentreports.reporter.JsonFormatter;
 import com.aventstack.extentreports.reporter.configuration.Theme;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 import java.io.File;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Extent Report Manager
- * Manages Extent Reports configuration
+ * Manages Extent Reports configuration.
+ * The report is created exactly once (holder idiom) and written out
+ * incrementally in the background: every extent.flush.every.tests finished
+ * tests and every extent.flush.interval.seconds, so a crashed run still
+ * leaves a usable partial report.
+ * When sharded, each shard also writes a JSON archive to shard.results.dir
+ * that ShardReportMerger combines into one report.
  */
 public class ExtentReportManager {
 
-    private static ExtentReports extent;
+    private static final Logger log = LogManager.getLogger(ExtentReportManager.class);
     private static ThreadLocal<ExtentTest> extentTest = new ThreadLocal<>();
 
+    private static final AtomicInteger finishedTests = new AtomicInteger();
+    private static final AtomicBoolean dirty = new AtomicBoolean();
+    private static final Object flushLock = new Object();
+
+    /**
+     * Lazily initialized on first access; class loading makes this race-free
+     */
+    private static class Holder {
+        static final ExtentReports INSTANCE = createInstance();
+        static final ScheduledExecutorService FLUSHER = startFlusher();
+    }
+
     /**
      * Initialize Extent Reports
      */
-    public static ExtentReports createInstance() {
+    private static ExtentReports createInstance() {
         String reportPath = ConfigReader.getProperty("extent.report.path");
 
         // Create report directory if not exists
@@ -36,8 +62,11 @@ public class ExtentReportManager {
         sparkReporter.config().setReportName(ConfigReader.getProperty("extent.report.name"));
         sparkReporter.config().setEncoding("utf-8");
 
-        extent = new ExtentReports();
+        ExtentReports extent = new ExtentReports();
         extent.attachReporter(sparkReporter);
+        if (TestSharding.isEnabled()) {
+            extent.attachReporter(new JsonFormatter(getShardArchive(TestSharding.getIndex(), TestSharding.getTotal())));
+        }
 
         // System Info
         extent.setSystemInfo("Application", "SauceDemo");
@@ -45,25 +74,88 @@ public class ExtentReportManager {
         extent.setSystemInfo("Browser", ConfigReader.getBrowser());
         extent.setSystemInfo("OS", System.getProperty("os.name"));
         extent.setSystemInfo("User", System.getProperty("user.name"));
+        if (TestSharding.isEnabled()) {
+            extent.setSystemInfo("Shard", (TestSharding.getIndex() + 1) + " of " + TestSharding.getTotal());
+        }
 
+        Runtime.getRuntime().addShutdownHook(new Thread(ExtentReportManager::flush, "extent-final-flush"));
         return extent;
     }
 
+    /**
+     * JSON archive written by the given shard
+     */
+    private static File getShardArchive(int index, int total) {
+        return new File(ConfigReader.getProperty("shard.results.dir"), "extent-" + index + "-of-" + total + ".json");
+    }
+
+    /**
+     * Background flusher: writes the report every extent.flush.interval.seconds if anything changed
+     * (0 disables the timed flush)
+     */
+    private static ScheduledExecutorService startFlusher() {
+        long interval = ConfigReader.getLong("extent.flush.interval.seconds");
+        ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "extent-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // <= 0: no timed flush; the executor still runs count-triggered flushes
+        if (interval > 0) {
+            flusher.scheduleWithFixedDelay(() -> {
+                if (dirty.get()) {
+                    flush();
+                }
+            }, interval, interval, TimeUnit.SECONDS);
+        }
+        return flusher;
+    }
+
     /**
      * Get Extent Reports instance
      */
     public static ExtentReports getInstance() {
-        if (extent == null) {
-            createInstance();
-        }
-        return extent;
+        return Holder.INSTANCE;
     }
 
     /**
-     * Set current test
+     * Create a test, make it current for this thread and return it
      */
-    public static void setTest(ExtentTest test) {
+    public static ExtentTest startTest(String name, String... categories) {
+        ExtentTest test = getInstance().createTest(name).assignCategory(categories);
         extentTest.set(test);
+        dirty.set(true);
+        return test;
+    }
+
+    /**
+     * Finish the current test for this thread; triggers a background flush
+     * every extent.flush.every.tests finished tests (0 disables the count trigger)
+     */
+    public static void endTest() {
+        extentTest.remove();
+        dirty.set(true);
+        int flushEvery = ConfigReader.getInt("extent.flush.every.tests");
+        // <= 0: no flush by count, only the timed and final ones
+        if (flushEvery > 0 && finishedTests.incrementAndGet() % flushEvery == 0) {
+            Holder.FLUSHER.execute(ExtentReportManager::flush);
+        }
+    }
+
+    /**
+     * Write the report to disk (one flush at a time)
+     */
+    public static void flush() {
+        synchronized (flushLock) {
+            dirty.set(false);
+            try {
+                getInstance().flush();
+                log.debug("Extent report flushed after " + finishedTests.get() + " tests");
+            } catch (Exception e) {
+                dirty.set(true);
+                log.warn("Failed to flush Extent report: " + e.getMessage());
+            }
+        }
     }
 
     /**
@@ -72,4 +164,4 @@ public class ExtentReportManager {
     public static ExtentTest getTest() {
         return extentTest.get();
     }
-}
\ No newline at end of file
+}
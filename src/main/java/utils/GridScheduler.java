@@ -0,0 +1,294 @@
+package utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.remote.Augmenter;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Grid Scheduler
+ * Creates RemoteWebDriver sessions on the Selenium Grid at grid.url and queues
+ * them on the client: a session is only requested once a node reports a free
+ * slot for the browser (from <grid.url>/status, re-read every
+ * grid.status.poll.millis), so waiting sessions back up here instead of piling
+ * up in the hub's queue and timing out there.
+ * A node's free slots are its idle slots for the browser, capped by its
+ * maxSessions; sessions being created count as taken until the Grid reports them.
+ * Timed into TimingMetrics: "grid.acquire" (request to session ready) and
+ * "grid.queue" (wait for a slot, only for sessions that had to wait), with the
+ * browser as subject; the gauges "grid.queue.depth" and "grid.queue.depth.max"
+ * are exported with them. Statistics are logged when the JVM exits.
+ * While /status cannot be read sessions are requested without client-side
+ * queuing; it is tried again after STATUS_RETRY_POLLS poll intervals.
+ * The status is read by one thread at a time, without holding the lock.
+ */
+public class GridScheduler {
+
+    private static final Logger log = LogManager.getLogger(GridScheduler.class);
+
+    private static final String GRID_URL = ConfigReader.getProperty("grid.url");
+    private static final long POLL_MILLIS = ConfigReader.getLong("grid.status.poll.millis");
+    private static final long POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(POLL_MILLIS);
+    private static final long QUEUE_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(ConfigReader.getLong("grid.queue.timeout"));
+
+    // Poll intervals to wait before reading /status again after a failed read
+    private static final int STATUS_RETRY_POLLS = 20;
+
+    private static final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+    private static final Json json = new Json();
+
+    private static final ReentrantLock lock = new ReentrantLock();
+    private static final Condition slotsChanged = lock.newCondition();
+    // Guarded by lock
+    private static int queued;
+    private static int creating;
+    private static Map<String, Map<String, Integer>> freeSlotsByBrowser;
+    private static long statusReadAt;
+    // Bumped when freeSlotsByBrowser is discarded, so a read started before is not used
+    private static long statusGeneration;
+    private static boolean readingStatus;
+    private static boolean statusUnavailable;
+    private static long statusRetryAt;
+
+    // Statistics
+    private static final LongAdder sessions = new LongAdder();
+    private static final LongAdder waits = new LongAdder();
+    private static final LongAdder totalAcquireNanos = new LongAdder();
+    private static final AtomicLong maxAcquireNanos = new AtomicLong();
+    private static final AtomicLong maxQueueDepth = new AtomicLong();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            if (sessions.sum() > 0) {
+                log.info("Grid statistics: " + getStatistics());
+            }
+        }, "grid-scheduler-summary"));
+        TimingMetrics.gauge("grid.queue.depth", "Sessions waiting for a free grid slot",
+                GridScheduler::getQueueDepth);
+        TimingMetrics.gauge("grid.queue.depth.max", "Most sessions waiting for a free grid slot at once",
+                maxQueueDepth::get);
+    }
+
+    /**
+     * Check if sessions run on a Grid (grid.url is set)
+     */
+    public static boolean isEnabled() {
+        return GRID_URL != null && !GRID_URL.isBlank();
+    }
+
+    /**
+     * Wait for a free slot for the options' browser, then start a session there
+     */
+    public static WebDriver newSession(Capabilities options) {
+        String browser = options.getBrowserName();
+        long start = System.nanoTime();
+        acquireSlot(browser, start);
+        try {
+            WebDriver session = new RemoteWebDriver(gridUrl(), options);
+            // Adds DevTools/CDP where the Grid offers it (se:cdp), for NetworkPolicy and browser contexts
+            session = new Augmenter().augment(session);
+            long acquired = System.nanoTime() - start;
+            sessions.increment();
+            totalAcquireNanos.add(acquired);
+            maxAcquireNanos.accumulateAndGet(acquired, Math::max);
+            TimingMetrics.record("grid.acquire", browser, acquired);
+            log.info("{} session started on the Grid in {} ms", browser, TimeUnit.NANOSECONDS.toMillis(acquired));
+            return session;
+        } finally {
+            lock.lock();
+            try {
+                creating--;
+                // The new session (or the freed slot after a failure) shows in the next status
+                freeSlotsByBrowser = null;
+                statusGeneration++;
+                slotsChanged.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Number of sessions currently waiting for a free slot
+     */
+    public static int getQueueDepth() {
+        lock.lock();
+        try {
+            return queued;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static void acquireSlot(String browser, long start) {
+        lock.lock();
+        try {
+            boolean waited = false;
+            try {
+                while (true) {
+                    refreshStatus();
+                    if (statusUnavailable) {
+                        break;
+                    }
+                    // Null while another thread reads the first or a discarded status
+                    Map<String, Integer> free = freeSlotsByBrowser == null ? null
+                            : freeSlotsByBrowser.getOrDefault(browser.toLowerCase(), Map.of());
+                    if (free != null && free.values().stream().mapToInt(Integer::intValue).sum() - creating > 0) {
+                        break;
+                    }
+                    if (System.nanoTime() - start >= QUEUE_TIMEOUT_NANOS) {
+                        throw new RuntimeException("Timed out after " + TimeUnit.NANOSECONDS.toSeconds(QUEUE_TIMEOUT_NANOS)
+                                + "s waiting for a free " + browser + " slot on " + GRID_URL
+                                + " (queue depth " + queued + ", free slots per node " + free + ")");
+                    }
+                    if (free != null && !waited) {
+                        waited = true;
+                        queued++;
+                        waits.increment();
+                        maxQueueDepth.accumulateAndGet(queued, Math::max);
+                        log.info("No free {} slot on the Grid (free slots per node {}), queued at depth {}",
+                                browser, free, queued);
+                    }
+                    slotsChanged.await(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while waiting for a free grid slot", e);
+            } finally {
+                if (waited) {
+                    queued--;
+                }
+            }
+            creating++;
+            if (waited) {
+                TimingMetrics.record("grid.queue", browser, System.nanoTime() - start);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Re-read the free slots from the Grid if they are older than the poll
+     * interval (or after a failed read, the retry interval) and no other thread
+     * is reading them. Called holding the lock, which is released for the HTTP call
+     */
+    private static void refreshStatus() throws InterruptedException {
+        long now = System.nanoTime();
+        boolean due = statusUnavailable ? now - statusRetryAt >= 0
+                : freeSlotsByBrowser == null || now - statusReadAt >= POLL_NANOS;
+        if (!due || readingStatus) {
+            return;
+        }
+        readingStatus = true;
+        long generation = statusGeneration;
+        Map<String, Map<String, Integer>> status = null;
+        String failure = null;
+        lock.unlock();
+        try {
+            status = readStatus();
+        } catch (RuntimeException | IOException e) {
+            failure = e.getMessage();
+        } finally {
+            lock.lock();
+            readingStatus = false;
+            slotsChanged.signalAll();
+        }
+
+        if (failure != null) {
+            if (!statusUnavailable) {
+                log.warn("Grid status unavailable, sessions are queued by the Grid itself; retrying in {} ms: {}",
+                        STATUS_RETRY_POLLS * POLL_MILLIS, failure);
+            }
+            statusUnavailable = true;
+            freeSlotsByBrowser = null;
+            statusRetryAt = System.nanoTime() + STATUS_RETRY_POLLS * POLL_NANOS;
+            return;
+        }
+        if (statusUnavailable) {
+            log.info("Grid status available again, sessions are queued here");
+            statusUnavailable = false;
+        }
+        // A session started or failed meanwhile: this status may not show it yet
+        if (generation == statusGeneration) {
+            freeSlotsByBrowser = status;
+            statusReadAt = System.nanoTime();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Map<String, Integer>> readStatus() throws IOException, InterruptedException {
+        URI status = URI.create(GRID_URL.replaceAll("/+$", "") + "/status");
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(status).timeout(Duration.ofSeconds(10))
+                .GET().build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new RuntimeException("GET " + status + " returned HTTP " + response.statusCode());
+        }
+        Map<String, Object> body = json.toType(response.body(), Json.MAP_TYPE);
+        Map<String, Object> value = (Map<String, Object>) body.get("value");
+        List<Map<String, Object>> nodes = (List<Map<String, Object>>) value.get("nodes");
+        if (nodes == null) {
+            throw new RuntimeException(status + " lists no nodes");
+        }
+
+        Map<String, Map<String, Integer>> free = new LinkedHashMap<>();
+        for (Map<String, Object> node : nodes) {
+            if (!"UP".equals(node.get("availability"))) {
+                continue;
+            }
+            List<Map<String, Object>> slots = (List<Map<String, Object>>) node.get("slots");
+            long busy = slots.stream().filter(slot -> slot.get("session") != null).count();
+            long capacity = ((Number) node.getOrDefault("maxSessions", slots.size())).longValue() - busy;
+            Map<String, Long> idleByBrowser = new LinkedHashMap<>();
+            for (Map<String, Object> slot : slots) {
+                Map<String, Object> stereotype = (Map<String, Object>) slot.get("stereotype");
+                if (slot.get("session") == null && stereotype != null && stereotype.get("browserName") != null) {
+                    idleByBrowser.merge(String.valueOf(stereotype.get("browserName")).toLowerCase(), 1L, Long::sum);
+                }
+            }
+            String uri = String.valueOf(node.get("uri"));
+            idleByBrowser.forEach((name, idle) -> free.computeIfAbsent(name, key -> new LinkedHashMap<>())
+                    .put(uri, (int) Math.max(0, Math.min(idle, capacity))));
+        }
+        log.debug("Grid free slots: " + free);
+        return free;
+    }
+
+    private static URL gridUrl() {
+        try {
+            return new URL(GRID_URL);
+        } catch (MalformedURLException e) {
+            throw new RuntimeException("Invalid grid.url: " + GRID_URL, e);
+        }
+    }
+
+    /**
+     * Get Grid statistics summary
+     */
+    public static String getStatistics() {
+        long count = sessions.sum();
+        double avgAcquireMs = count == 0 ? 0 : totalAcquireNanos.sum() / 1_000_000.0 / count;
+        return String.format("sessions=%d, avgAcquire=%.1fms, maxAcquire=%.1fms, queuedSessions=%d, maxQueueDepth=%d",
+                count, avgAcquireMs, maxAcquireNanos.get() / 1_000_000.0, waits.sum(), maxQueueDepth.get());
+    }
+}
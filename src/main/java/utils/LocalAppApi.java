@@ -0,0 +1,279 @@
+package utils;
+
+import com.sun.net.httpserver.HttpExchange;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Local App API
+ * Business rules of the local stand-in: accepted and locked users, validation
+ * messages, catalog, sort orders, cart changes and checkout amounts, from
+ * localapp/api/rules.json (under /api/, so never served as a file).
+ * Served as JSON under /api/ by LocalAppServer; the stand-in's app.js and the
+ * HTTP backend (api.HttpSession) both call it, so the two backends run the
+ * same rules.
+ * Like on the live site the cart lives in the client, so requests carry it
+ * (a list of product ids) and cart changes return the new one.
+ * Endpoints (POST, JSON body):
+ * - /api/login {username, password} -> {error}
+ * - /api/access-denied {path} -> {error}
+ * - /api/inventory {sort, cart} -> {items}
+ * - /api/cart {cart} -> {items}
+ * - /api/cart/add, /api/cart/remove {cart, id} -> {cart}
+ * - /api/checkout/information {firstName, lastName, postalCode} -> {error}
+ * - /api/checkout/overview {cart} -> {items, subtotal, tax, total}
+ * error is null when the action succeeds. Items carry id, name, desc, price,
+ * priceText, inCart and buttonId (e.g. "remove-sauce-labs-backpack").
+ */
+class LocalAppApi {
+
+    static final String PREFIX = "/api/";
+
+    private static final Json json = new Json();
+
+    private record Product(int id, String name, String desc, double price) {
+    }
+
+    private record Rules(String password, List<String> users, String lockedUser, double taxRate,
+                         Map<String, String> messages, List<Product> products) {
+    }
+
+    // Sort option values of the inventory page
+    private static final Map<String, Comparator<Product>> ORDERS = Map.of(
+            "az", Comparator.comparing(Product::name),
+            "za", Comparator.comparing(Product::name).reversed(),
+            "lohi", Comparator.comparingDouble(Product::price),
+            "hilo", Comparator.comparingDouble(Product::price).reversed());
+
+    private static final Rules RULES = load();
+
+    /**
+     * Rejected request: answered with its status and {error: message}
+     */
+    private static class ApiException extends RuntimeException {
+        final int status;
+
+        ApiException(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Rules load() {
+        String resource = LocalAppServer.RESOURCE_ROOT + PREFIX + "rules.json";
+        Map<String, Object> rules;
+        try (InputStream in = LocalAppApi.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new RuntimeException("Local app rules not found: " + resource);
+            }
+            rules = json.toType(new String(in.readAllBytes(), StandardCharsets.UTF_8), Json.MAP_TYPE);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read local app rules: " + resource, e);
+        }
+        List<Product> products = ((List<Map<String, Object>>) rules.get("products")).stream()
+                .map(p -> new Product(((Number) p.get("id")).intValue(), (String) p.get("name"),
+                        (String) p.get("desc"), ((Number) p.get("price")).doubleValue()))
+                .toList();
+        return new Rules((String) rules.get("password"), (List<String>) rules.get("users"),
+                (String) rules.get("lockedUser"), ((Number) rules.get("taxRate")).doubleValue(),
+                (Map<String, String>) rules.get("messages"), products);
+    }
+
+    /**
+     * Answer an /api/ request
+     */
+    static void handle(HttpExchange exchange, String path) throws IOException {
+        int status = 200;
+        Map<String, Object> response;
+        try {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                throw new ApiException(405, exchange.getRequestMethod() + " not allowed, use POST");
+            }
+            Map<String, Object> request = readBody(exchange);
+            response = switch (path.substring(PREFIX.length())) {
+                case "login" -> result(loginError(string(request, "username"), string(request, "password")));
+                case "access-denied" -> result(RULES.messages().get("accessDenied")
+                        .replace("{path}", string(request, "path")));
+                case "inventory" -> Map.of("items", inventory(string(request, "sort"), cart(request)));
+                case "cart" -> Map.of("items", items(cartProducts(cart(request)), cart(request)));
+                case "cart/add" -> Map.of("cart", addToCart(cart(request), id(request)));
+                case "cart/remove" -> Map.of("cart", removeFromCart(cart(request), id(request)));
+                case "checkout/information" -> result(checkoutError(string(request, "firstName"),
+                        string(request, "lastName"), string(request, "postalCode")));
+                case "checkout/overview" -> overview(cart(request));
+                default -> throw new ApiException(404, "No API endpoint " + path);
+            };
+        } catch (ApiException e) {
+            status = e.status;
+            response = result(e.getMessage());
+        }
+
+        byte[] body = json.toJson(response).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.getResponseHeaders().set("Cache-Control", "no-store");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static String loginError(String username, String password) {
+        Map<String, String> messages = RULES.messages();
+        if (username.isEmpty()) {
+            return messages.get("usernameRequired");
+        }
+        if (password.isEmpty()) {
+            return messages.get("passwordRequired");
+        }
+        if (!RULES.users().contains(username) || !RULES.password().equals(password)) {
+            return messages.get("noMatch");
+        }
+        if (RULES.lockedUser().equals(username)) {
+            return messages.get("lockedOut");
+        }
+        return null;
+    }
+
+    private static String checkoutError(String firstName, String lastName, String postalCode) {
+        Map<String, String> messages = RULES.messages();
+        if (firstName.isEmpty()) {
+            return messages.get("firstNameRequired");
+        }
+        if (lastName.isEmpty()) {
+            return messages.get("lastNameRequired");
+        }
+        if (postalCode.isEmpty()) {
+            return messages.get("postalCodeRequired");
+        }
+        return null;
+    }
+
+    private static List<Map<String, Object>> inventory(String sort, List<Integer> cart) {
+        Comparator<Product> order = ORDERS.get(sort.isEmpty() ? "az" : sort);
+        if (order == null) {
+            throw new ApiException(400, "Unknown sort order: " + sort);
+        }
+        return items(RULES.products().stream().sorted(order).toList(), cart);
+    }
+
+    private static List<Integer> addToCart(List<Integer> cart, int id) {
+        product(id);
+        if (cart.contains(id)) {
+            throw new ApiException(409, "Product " + id + " is already in the cart");
+        }
+        List<Integer> updated = new ArrayList<>(cart);
+        updated.add(id);
+        return updated;
+    }
+
+    private static List<Integer> removeFromCart(List<Integer> cart, int id) {
+        if (!cart.contains(id)) {
+            throw new ApiException(409, "Product " + id + " is not in the cart");
+        }
+        return cart.stream().filter(item -> item != id).toList();
+    }
+
+    // Item total and tax (rounded to cents) of the checkout overview
+    private static Map<String, Object> overview(List<Integer> cart) {
+        List<Product> products = cartProducts(cart);
+        double itemTotal = products.stream().mapToDouble(Product::price).sum();
+        double tax = Math.round(itemTotal * RULES.taxRate() * 100) / 100.0;
+        Map<String, Object> overview = new LinkedHashMap<>();
+        overview.put("items", items(products, cart));
+        overview.put("subtotal", "Item total: " + money(itemTotal));
+        overview.put("tax", "Tax: " + money(tax));
+        overview.put("total", "Total: " + money(itemTotal + tax));
+        return overview;
+    }
+
+    // Cart lists items in the order they were added; ids not in the catalog are left out
+    private static List<Product> cartProducts(List<Integer> cart) {
+        return cart.stream()
+                .flatMap(id -> RULES.products().stream().filter(p -> p.id() == id))
+                .toList();
+    }
+
+    private static Product product(int id) {
+        return RULES.products().stream().filter(p -> p.id() == id).findFirst()
+                .orElseThrow(() -> new ApiException(404, "No product with id " + id));
+    }
+
+    // Listing rows as the pages render them for the given cart
+    private static List<Map<String, Object>> items(List<Product> products, List<Integer> cart) {
+        List<Map<String, Object>> items = new ArrayList<>();
+        for (Product p : products) {
+            boolean inCart = cart.contains(p.id());
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("id", p.id());
+            item.put("name", p.name());
+            item.put("desc", p.desc());
+            item.put("price", p.price());
+            item.put("priceText", money(p.price()));
+            item.put("inCart", inCart);
+            // Same id scheme as the live site: lower case, spaces to dashes
+            item.put("buttonId", (inCart ? "remove-" : "add-to-cart-") + p.name().toLowerCase().replace(" ", "-"));
+            items.add(item);
+        }
+        return items;
+    }
+
+    private static String money(double amount) {
+        return String.format(Locale.ROOT, "$%.2f", amount);
+    }
+
+    private static Map<String, Object> result(String error) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("error", error);
+        return result;
+    }
+
+    private static Map<String, Object> readBody(HttpExchange exchange) throws IOException {
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        if (body.isBlank()) {
+            return Map.of();
+        }
+        try {
+            return json.toType(body, Json.MAP_TYPE);
+        } catch (JsonException | ClassCastException e) {
+            throw new ApiException(400, "Request body is not a JSON object");
+        }
+    }
+
+    private static String string(Map<String, Object> request, String field) {
+        Object value = request.get(field);
+        return value == null ? "" : String.valueOf(value);
+    }
+
+    private static int id(Map<String, Object> request) {
+        if (!(request.get("id") instanceof Number id)) {
+            throw new ApiException(400, "Missing product id");
+        }
+        return id.intValue();
+    }
+
+    private static List<Integer> cart(Map<String, Object> request) {
+        if (!(request.getOrDefault("cart", List.of()) instanceof List<?> cart)) {
+            throw new ApiException(400, "cart must be a list of product ids");
+        }
+        List<Integer> ids = new ArrayList<>();
+        for (Object id : cart) {
+            if (!(id instanceof Number number)) {
+                throw new ApiException(400, "cart must be a list of product ids");
+            }
+            ids.add(number.intValue());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,172 @@
+package utils;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local App Server
+ * In-JVM stand-in for SauceDemo. Serves static snapshots of the login, inventory,
+ * cart and checkout pages (same ids and data-test attributes as the live site)
+ * from the classpath, with an optional artificial latency per response.
+ * The site's rules (login, cart, sorting, checkout) answer under /api/
+ * (LocalAppApi), for the pages' app.js and the HTTP backend alike.
+ * Used when app.target=local; run main() to serve it for JMeter plans.
+ */
+public class LocalAppServer {
+
+    private static final Logger log = LogManager.getLogger(LocalAppServer.class);
+    static final String RESOURCE_ROOT = "/localapp";
+
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+            "html", "text/html; charset=utf-8",
+            "js", "application/javascript; charset=utf-8",
+            "css", "text/css; charset=utf-8",
+            "json", "application/json; charset=utf-8");
+
+    // Snapshots never change during a run, so each file is read from the classpath once
+    private static final Map<String, Optional<byte[]>> resources = new ConcurrentHashMap<>();
+
+    private static HttpServer server;
+    private static ExecutorService executor;
+
+    /**
+     * Check if tests should target the local stand-in instead of base.url
+     */
+    public static boolean isEnabled() {
+        return "local".equalsIgnoreCase(ConfigReader.getProperty("app.target"));
+    }
+
+    /**
+     * Start the server (once) and return its base URL
+     */
+    public static synchronized String start() {
+        if (server == null) {
+            int port = ConfigReader.getInt("local.server.port");
+            long latencyMillis = ConfigReader.getLong("local.server.latency.millis");
+            try {
+                server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to start local app server on port " + port, e);
+            }
+
+            // Latency is simulated per request, so requests need their own threads to overlap like real ones
+            AtomicInteger counter = new AtomicInteger();
+            executor = Executors.newCachedThreadPool(task -> {
+                Thread thread = new Thread(task, "local-app-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            server.setExecutor(executor);
+            server.createContext("/", exchange -> handle(exchange, latencyMillis));
+            startDaemon(server);
+            log.info("Local app server started at {} (latency {} ms)", getUrl(), latencyMillis);
+        }
+        return getUrl();
+    }
+
+    /**
+     * Stop the server if running
+     */
+    public static synchronized void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+            server = null;
+            log.info("Local app server stopped");
+        }
+    }
+
+    /**
+     * Get base URL (with trailing slash, like base.url)
+     */
+    public static synchronized String getUrl() {
+        if (server == null) {
+            throw new IllegalStateException("Local app server is not running");
+        }
+        return "http://localhost:" + server.getAddress().getPort() + "/";
+    }
+
+    /**
+     * The dispatcher thread inherits daemon status from the thread that starts the
+     * server, so starting it from a daemon thread keeps it from holding the JVM open
+     */
+    private static void startDaemon(HttpServer httpServer) {
+        Thread starter = new Thread(httpServer::start, "local-app-starter");
+        starter.setDaemon(true);
+        starter.start();
+        try {
+            starter.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while starting local app server", e);
+        }
+    }
+
+    private static void handle(HttpExchange exchange, long latencyMillis) throws IOException {
+        try (exchange) {
+            if (latencyMillis > 0) {
+                try {
+                    Thread.sleep(latencyMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+
+            String path = exchange.getRequestURI().getPath();
+            if (path.startsWith(LocalAppApi.PREFIX)) {
+                LocalAppApi.handle(exchange, path);
+                return;
+            }
+            if (path.endsWith("/")) {
+                path += "index.html";
+            }
+
+            Optional<byte[]> body = path.contains("..") ? Optional.empty() : resource(path);
+            if (body.isEmpty()) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+
+            String extension = path.substring(path.lastIndexOf('.') + 1);
+            exchange.getResponseHeaders().set("Content-Type",
+                    CONTENT_TYPES.getOrDefault(extension, "application/octet-stream"));
+            exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+            exchange.sendResponseHeaders(200, body.get().length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body.get());
+            }
+        }
+    }
+
+    private static Optional<byte[]> resource(String path) {
+        return resources.computeIfAbsent(path, key -> {
+            try (InputStream in = LocalAppServer.class.getResourceAsStream(RESOURCE_ROOT + key)) {
+                return in == null ? Optional.empty() : Optional.of(in.readAllBytes());
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to read local app resource: " + key, e);
+            }
+        });
+    }
+
+    /**
+     * Serve the stand-in until the process is killed (e.g. as a JMeter target)
+     */
+    public static void main(String[] args) throws InterruptedException {
+        log.info("Serving SauceDemo stand-in at {}", start());
+        Thread.currentThread().join();
+    }
+}
@@ -0,0 +1,249 @@
+package utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.devtools.NetworkInterceptor;
+import org.openqa.selenium.remote.http.Contents;
+import org.openqa.selenium.remote.http.Filter;
+import org.openqa.selenium.remote.http.HttpHandler;
+import org.openqa.selenium.remote.http.HttpMethod;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Network Policy
+ * Intercepts the browser's requests through Chrome DevTools (Chrome and Edge):
+ * - requests matching network.block.patterns or of a type in network.block.types
+ *   are answered with an empty 204 instead of being loaded
+ * - static assets (network.cache.types) are saved in network.cache.dir and later
+ *   served from there, also across runs, until network.cache.max.age.hours
+ * - every request is timed into TimingMetrics as "network.<outcome>" (fetched,
+ *   cached, blocked) with its resource type as subject
+ * The resource type is derived from the URL extension and Accept header.
+ * Per-test browser contexts (driver.mode=context) only get the blocking part,
+ * as a CDP URL blocklist: the interceptor is tied to the browser's first window.
+ */
+public class NetworkPolicy {
+
+    private static final Logger log = LogManager.getLogger(NetworkPolicy.class);
+
+    private static final boolean ENABLED = ConfigReader.getBoolean("network.policy.enabled");
+    private static final List<String> BLOCK_GLOBS = split("network.block.patterns");
+    private static final List<Pattern> BLOCK_PATTERNS = BLOCK_GLOBS.stream()
+            .map(NetworkPolicy::globToPattern).toList();
+    private static final Set<String> BLOCK_TYPES = Set.copyOf(split("network.block.types"));
+    private static final Set<String> CACHE_TYPES = Set.copyOf(split("network.cache.types"));
+    private static final Path CACHE_DIR = Paths.get(ConfigReader.getProperty("network.cache.dir"));
+    private static final Duration CACHE_MAX_AGE = Duration.ofHours(ConfigReader.getLong("network.cache.max.age.hours"));
+
+    private static final Map<String, String> TYPES_BY_EXTENSION = Map.ofEntries(
+            Map.entry("png", "image"), Map.entry("jpg", "image"), Map.entry("jpeg", "image"),
+            Map.entry("gif", "image"), Map.entry("svg", "image"), Map.entry("webp", "image"),
+            Map.entry("ico", "image"),
+            Map.entry("woff", "font"), Map.entry("woff2", "font"), Map.entry("ttf", "font"),
+            Map.entry("otf", "font"), Map.entry("eot", "font"),
+            Map.entry("css", "stylesheet"),
+            Map.entry("js", "script"), Map.entry("mjs", "script"),
+            Map.entry("mp4", "media"), Map.entry("webm", "media"), Map.entry("mp3", "media"));
+
+    // Assets read or written in this JVM, keyed by URL, so a hit needs no disk access
+    private static final Map<String, CachedAsset> memory = new ConcurrentHashMap<>();
+
+    private static final LongAdder blocked = new LongAdder();
+    private static final LongAdder cached = new LongAdder();
+    private static final LongAdder fetched = new LongAdder();
+
+    private record CachedAsset(String contentType, byte[] body) {
+    }
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            if (fetched.sum() + cached.sum() + blocked.sum() > 0) {
+                log.info("Network policy: {} requests fetched, {} served from cache, {} blocked",
+                        fetched.sum(), cached.sum(), blocked.sum());
+            }
+        }, "network-policy-summary"));
+    }
+
+    /**
+     * Apply the policy to a new browser session; browsers without DevTools
+     * (Firefox) are left unchanged. The interceptor lives as long as the session.
+     */
+    public static void apply(WebDriver driver) {
+        if (!ENABLED) {
+            return;
+        }
+        if (!(driver instanceof HasDevTools)) {
+            log.info("Network policy skipped: {} has no DevTools", driver.getClass().getSimpleName());
+            return;
+        }
+        new NetworkInterceptor(driver, (Filter) next -> request -> handle(request, next));
+        log.info("Network policy applied: blocking types {} and {} URL patterns, caching {}",
+                BLOCK_TYPES, BLOCK_PATTERNS.size(), CACHE_TYPES);
+    }
+
+    /**
+     * Block the configured patterns and types in the current window's browser
+     * context; no caching or timing there (see class comment)
+     */
+    public static void applyToContext(WebDriver driver) {
+        if (!ENABLED || !(driver instanceof HasCdp)) {
+            return;
+        }
+        List<String> urls = new ArrayList<>(BLOCK_GLOBS);
+        TYPES_BY_EXTENSION.forEach((extension, type) -> {
+            if (BLOCK_TYPES.contains(type)) {
+                urls.add("*." + extension);
+                urls.add("*." + extension + "?*");
+            }
+        });
+        HasCdp cdp = (HasCdp) driver;
+        cdp.executeCdpCommand("Network.enable", Map.of());
+        cdp.executeCdpCommand("Network.setBlockedURLs", Map.of("urls", urls));
+    }
+
+    private static HttpResponse handle(HttpRequest request, HttpHandler next) {
+        long start = System.nanoTime();
+        String url = request.getUri();
+        String type = resourceType(request);
+
+        if (BLOCK_TYPES.contains(type) || BLOCK_PATTERNS.stream().anyMatch(p -> p.matcher(url).matches())) {
+            blocked.increment();
+            TimingMetrics.record("network.blocked", type, System.nanoTime() - start);
+            return new HttpResponse().setStatus(204);
+        }
+
+        boolean cacheable = request.getMethod() == HttpMethod.GET && CACHE_TYPES.contains(type);
+        if (cacheable) {
+            CachedAsset asset = lookup(url);
+            if (asset != null) {
+                cached.increment();
+                TimingMetrics.record("network.cached", type, System.nanoTime() - start);
+                HttpResponse response = new HttpResponse().setStatus(200);
+                response.setHeader("Content-Type", asset.contentType());
+                response.setContent(Contents.bytes(asset.body()));
+                return response;
+            }
+        }
+
+        HttpResponse response = next.execute(request);
+        fetched.increment();
+        TimingMetrics.record("network.fetched", type, System.nanoTime() - start);
+        if (cacheable && response.getStatus() == 200) {
+            byte[] body = Contents.bytes(response.getContent());
+            // Reading may have consumed the stream; give the browser its own copy
+            response.setContent(Contents.bytes(body));
+            String contentType = response.getHeader("Content-Type");
+            store(url, new CachedAsset(contentType == null ? "application/octet-stream" : contentType, body));
+        }
+        return response;
+    }
+
+    /**
+     * Resource type in DevTools terms (image, font, stylesheet, script, media),
+     * "other" for documents, XHR and anything unrecognised
+     */
+    static String resourceType(HttpRequest request) {
+        // Not parsed as a URI: browsers send URLs that java.net.URI rejects
+        String path = request.getUri().split("[?#]", 2)[0];
+        int dot = path.lastIndexOf('.');
+        if (dot > path.lastIndexOf('/')) {
+            String type = TYPES_BY_EXTENSION.get(path.substring(dot + 1).toLowerCase(Locale.ROOT));
+            if (type != null) {
+                return type;
+            }
+        }
+        String accept = request.getHeader("Accept");
+        if (accept != null) {
+            if (accept.startsWith("image/")) {
+                return "image";
+            }
+            if (accept.startsWith("text/css")) {
+                return "stylesheet";
+            }
+        }
+        return "other";
+    }
+
+    private static CachedAsset lookup(String url) {
+        CachedAsset asset = memory.get(url);
+        if (asset != null) {
+            return asset;
+        }
+        Path body = CACHE_DIR.resolve(cacheKey(url) + ".body");
+        Path type = CACHE_DIR.resolve(cacheKey(url) + ".type");
+        try {
+            if (!Files.isRegularFile(body) || !Files.isRegularFile(type)
+                    || Files.getLastModifiedTime(body).toInstant().isBefore(Instant.now().minus(CACHE_MAX_AGE))) {
+                return null;
+            }
+            asset = new CachedAsset(Files.readString(type, StandardCharsets.UTF_8), Files.readAllBytes(body));
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable cached asset for " + url + ": " + e.getMessage());
+            return null;
+        }
+        memory.put(url, asset);
+        return asset;
+    }
+
+    private static void store(String url, CachedAsset asset) {
+        memory.put(url, asset);
+        String key = cacheKey(url);
+        try {
+            Files.createDirectories(CACHE_DIR);
+            // Body last: lookup only trusts entries whose body exists
+            Files.writeString(CACHE_DIR.resolve(key + ".type"), asset.contentType(), StandardCharsets.UTF_8);
+            Files.write(CACHE_DIR.resolve(key + ".body"), asset.body());
+        } catch (IOException e) {
+            log.warn("Failed to cache " + url + ": " + e.getMessage());
+        }
+    }
+
+    private static String cacheKey(String url) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(url.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("SHA-256 not available", e);
+        }
+    }
+
+    private static List<String> split(String key) {
+        String value = ConfigReader.getProperty(key);
+        if (value == null || value.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(value.split(",")).map(String::trim).filter(s -> !s.isEmpty())
+                .map(s -> s.toLowerCase(Locale.ROOT)).collect(Collectors.toList());
+    }
+
+    // "*" matches any characters, everything else literally
+    private static Pattern globToPattern(String glob) {
+        return Pattern.compile(Arrays.stream(glob.split("\\*", -1)).map(Pattern::quote)
+                .collect(Collectors.joining(".*")), Pattern.CASE_INSENSITIVE);
+    }
+}
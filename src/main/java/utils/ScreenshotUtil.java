@@ -1,53 +1,101 @@
 package utils;
 
-import org.apache.commons.io.FileUtils;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.io.File;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Screenshot Utility
- * Captures and saves screenshots
+ * Captures a screenshot once as PNG bytes; the same bytes go to the report
+ * attachment and to a bounded background writer that saves them to disk.
+ * Identical frames (same content hash) are written only once.
  */
 public class ScreenshotUtil {
 
     private static final Logger log = LogManager.getLogger(ScreenshotUtil.class);
     private static final String SCREENSHOT_DIR = "screenshots/";
 
+    // Content hash -> file already written (or being written) for that frame
+    private static final Map<String, String> savedFrames = new ConcurrentHashMap<>();
+
+    private static final ThreadPoolExecutor writer = createWriter();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(
+                () -> awaitPendingWrites(30, TimeUnit.SECONDS), "screenshot-writer-shutdown"));
+    }
+
+    private static ThreadPoolExecutor createWriter() {
+        int threads = ConfigReader.getInt("screenshot.writer.threads");
+        int queueSize = ConfigReader.getInt("screenshot.writer.queue.size");
+        AtomicInteger counter = new AtomicInteger();
+        ThreadFactory factory = task -> {
+            Thread thread = new Thread(task, "screenshot-writer-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        // When the queue is full the test thread writes itself, which bounds memory
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize), factory, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
     /**
-     * Take screenshot and return file path
+     * Capture screenshot as PNG bytes
      */
-    public static String takeScreenshot(WebDriver driver, String screenshotName) {
-        String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
-        String fileName = screenshotName + "_" + timestamp + ".png";
-        String filePath = SCREENSHOT_DIR + fileName;
-
-        try {
-            // Create directory if not exists
-            File dir = new File(SCREENSHOT_DIR);
-            if (!dir.exists()) {
-                dir.mkdirs();
-            }
+    public static byte[] capture(WebDriver driver) {
+        return ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+    }
 
-            // Take screenshot
-            TakesScreenshot screenshot = (TakesScreenshot) driver;
-            File srcFile = screenshot.getScreenshotAs(OutputType.FILE);
-            File destFile = new File(filePath);
+    /**
+     * Queue PNG bytes to be written to disk and return the file path.
+     * If an identical frame was already saved, its path is returned and nothing is written.
+     */
+    public static String saveAsync(byte[] png, String screenshotName) {
+        String format = ConfigReader.getProperty("screenshot.format").toLowerCase();
+        String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
+        String filePath = SCREENSHOT_DIR + screenshotName + "_" + timestamp + "." + ("jpeg".equals(format) ? "jpg" : "png");
 
-            // Copy screenshot to destination
-            FileUtils.copyFile(srcFile, destFile);
+        String hash = sha256(png);
+        String existing = savedFrames.putIfAbsent(hash, filePath);
+        if (existing != null) {
+            log.info("Identical screenshot already saved, reusing: " + existing);
+            return existing;
+        }
 
-            log.info("Screenshot saved: " + filePath);
-            return filePath;
+        writer.execute(() -> write(png, hash, filePath, format));
+        return filePath;
+    }
 
-        } catch (IOException e) {
+    /**
+     * Take screenshot and return file path (file is written in the background)
+     */
+    public static String takeScreenshot(WebDriver driver, String screenshotName) {
+        try {
+            return saveAsync(capture(driver), screenshotName);
+        } catch (Exception e) {
             log.error("Failed to take screenshot: " + e.getMessage());
             return null;
         }
@@ -60,4 +108,64 @@ public class ScreenshotUtil {
         TakesScreenshot screenshot = (TakesScreenshot) driver;
         return screenshot.getScreenshotAs(OutputType.BASE64);
     }
-}
\ No newline at end of file
+
+    /**
+     * Stop accepting screenshots and wait for queued ones to be written (end of run)
+     */
+    public static void awaitPendingWrites(long timeout, TimeUnit unit) {
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(timeout, unit)) {
+                log.warn("Screenshot writer did not finish within " + timeout + " " + unit);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void write(byte[] png, String hash, String filePath, String format) {
+        Path path = Paths.get(filePath);
+        try {
+            Files.createDirectories(path.getParent());
+            byte[] data = "jpeg".equals(format) ? toJpeg(png) : png;
+            Files.write(path, data);
+            log.info("Screenshot saved: " + path);
+        } catch (IOException e) {
+            log.error("Failed to save screenshot " + path + ": " + e.getMessage());
+            // Not on disk, so later identical frames must be written rather than pointed here
+            savedFrames.remove(hash, filePath);
+        }
+    }
+
+    /**
+     * Re-encode PNG as JPEG with the configured quality
+     */
+    private static byte[] toJpeg(byte[] png) throws IOException {
+        BufferedImage source = ImageIO.read(new ByteArrayInputStream(png));
+        // JPEG has no alpha channel
+        BufferedImage rgb = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_RGB);
+        rgb.createGraphics().drawImage(source, 0, 0, null);
+
+        ImageWriter jpegWriter = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = jpegWriter.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality((float) ConfigReader.getDouble("screenshot.jpeg.quality"));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(out)) {
+            jpegWriter.setOutput(stream);
+            jpegWriter.write(null, new IIOImage(rgb, null, null), param);
+        } finally {
+            jpegWriter.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private static String sha256(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
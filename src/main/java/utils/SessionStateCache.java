@@ -0,0 +1,89 @@
+package utils;
+
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Session State Cache
+ * Holds the cookies and localStorage captured after a UI login, per user,
+ * so later sessions can be authenticated without driving the login form.
+ */
+public class SessionStateCache {
+
+    private static final Logger log = LogManager.getLogger(SessionStateCache.class);
+    private static final Map<String, SessionState> states = new ConcurrentHashMap<>();
+    private static final Map<String, Object> locks = new ConcurrentHashMap<>();
+
+    private static final String READ_STORAGE_SCRIPT =
+            "var state = {};"
+            + "for (var i = 0; i < window.localStorage.length; i++) {"
+            + "  var key = window.localStorage.key(i);"
+            + "  state[key] = window.localStorage.getItem(key);"
+            + "}"
+            + "return state;";
+
+    private static final String WRITE_STORAGE_SCRIPT =
+            "var state = arguments[0];"
+            + "Object.keys(state).forEach(function (key) {"
+            + "  window.localStorage.setItem(key, state[key]);"
+            + "});";
+
+    /**
+     * Captured authentication state of one user
+     */
+    public record SessionState(Set<Cookie> cookies, Map<String, String> localStorage) {
+    }
+
+    /**
+     * Get cached state for user, or null if the user has not logged in yet
+     */
+    public static SessionState get(String username) {
+        return states.get(username);
+    }
+
+    /**
+     * Lock used to make sure a user logs in through the UI only once per run
+     */
+    public static Object lockFor(String username) {
+        return locks.computeIfAbsent(username, key -> new Object());
+    }
+
+    /**
+     * Capture the current browser state for user
+     */
+    @SuppressWarnings("unchecked")
+    public static void capture(WebDriver driver, String username) {
+        Set<Cookie> cookies = Set.copyOf(driver.manage().getCookies());
+        Map<String, String> storage = Map.copyOf(
+                (Map<String, String>) ((JavascriptExecutor) driver).executeScript(READ_STORAGE_SCRIPT));
+        states.put(username, new SessionState(cookies, storage));
+        log.info("Captured session state for user: " + username
+                + " (" + cookies.size() + " cookies, " + storage.size() + " storage entries)");
+    }
+
+    /**
+     * Inject state into the browser; the browser must already be on the application origin
+     */
+    public static void inject(WebDriver driver, SessionState state) {
+        for (Cookie cookie : state.cookies()) {
+            driver.manage().addCookie(cookie);
+        }
+        if (!state.localStorage().isEmpty()) {
+            ((JavascriptExecutor) driver).executeScript(WRITE_STORAGE_SCRIPT, state.localStorage());
+        }
+    }
+
+    /**
+     * Drop cached state for user (e.g. after the application rejected it)
+     */
+    public static void invalidate(String username) {
+        states.remove(username);
+    }
+}
@@ -0,0 +1,92 @@
+package utils;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.reporter.ExtentSparkReporter;
+import com.aventstack.extentreports.reporter.configuration.Theme;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Shard Report Merger
+ * Combines the results of all shards after CI has collected them under
+ * shard.merge.input.dir (one sub-folder per shard, any layout inside):
+ * - extent-*.json archives become one Extent report (ExtentReport.html)
+ * - files from allure-results folders are copied into one allure-results
+ *   folder (result files have unique names; run allure generate on it)
+ * - durations-*.properties go to shard.history.dir for the next run's balancing
+ *
+ * Run with: mvn test -Pmerge-shards
+ */
+public class ShardReportMerger {
+
+    private static final Logger log = LogManager.getLogger(ShardReportMerger.class);
+
+    public static void main(String[] args) throws Exception {
+        Path input = Paths.get(ConfigReader.getProperty("shard.merge.input.dir"));
+        Path output = Paths.get(ConfigReader.getProperty("shard.merge.output.dir"));
+        Path history = Paths.get(ConfigReader.getProperty("shard.history.dir"));
+        if (!Files.isDirectory(input)) {
+            throw new RuntimeException("Shard results folder not found: " + input.toAbsolutePath());
+        }
+
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(input)) {
+            files = walk.filter(Files::isRegularFile).sorted().toList();
+        }
+
+        Path allure = output.resolve("allure-results");
+        Files.createDirectories(allure);
+        Files.createDirectories(history);
+        ExtentReports extent = new ExtentReports();
+        int archives = 0;
+        int allureFiles = 0;
+        int historyFiles = 0;
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            if (name.startsWith("extent-") && name.endsWith(".json")) {
+                extent.createDomainFromJsonArchive(file.toFile());
+                archives++;
+            } else if (isInAllureResults(input, file)) {
+                Files.copy(file, allure.resolve(name), StandardCopyOption.REPLACE_EXISTING);
+                allureFiles++;
+            } else if (name.startsWith("durations-") && name.endsWith(".properties")) {
+                Files.copy(file, history.resolve(name), StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.COPY_ATTRIBUTES);
+                historyFiles++;
+            }
+        }
+
+        if (archives > 0) {
+            Path report = output.resolve("ExtentReport.html");
+            ExtentSparkReporter spark = new ExtentSparkReporter(report.toFile());
+            spark.config().setTheme(Theme.STANDARD);
+            spark.config().setDocumentTitle(ConfigReader.getProperty("extent.report.title"));
+            spark.config().setReportName(ConfigReader.getProperty("extent.report.name") + " (" + archives + " shards)");
+            spark.config().setEncoding("utf-8");
+            extent.attachReporter(spark);
+            extent.flush();
+            log.info("Merged {} Extent archives into {}", archives, report);
+        }
+        log.info("Copied {} Allure result files to {}", allureFiles, allure);
+        log.info("Copied {} shard duration files to {}", historyFiles, history);
+
+        // Flush async logging now: exec:java closes the classloader before JVM shutdown hooks run
+        LogManager.shutdown();
+    }
+
+    private static boolean isInAllureResults(Path root, Path file) {
+        for (Path dir = file.getParent(); dir != null && !dir.equals(root); dir = dir.getParent()) {
+            if ("allure-results".equals(dir.getFileName().toString())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
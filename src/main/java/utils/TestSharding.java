@@ -0,0 +1,192 @@
+package utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Test Sharding
+ * Splits TestNG methods and Cucumber scenarios across shard.total JVMs or
+ * machines; this JVM runs shard.index (0-based). Every shard computes the same
+ * assignment: longest expected duration first, each to the least loaded shard,
+ * using durations measured in previous runs (shard.history.dir).
+ * Durations measured in this run are written there at JVM exit, one file per
+ * shard, so the files of all shards can be collected for the next run.
+ */
+public class TestSharding {
+
+    private static final Logger log = LogManager.getLogger(TestSharding.class);
+
+    private static final int INDEX = ConfigReader.getInt("shard.index");
+    private static final int TOTAL = ConfigReader.getInt("shard.total");
+    private static final Path HISTORY_DIR = Paths.get(ConfigReader.getProperty("shard.history.dir"));
+
+    private static final URI WORKING_DIR = Paths.get("").toAbsolutePath().toUri();
+
+    // Expected duration when there is no history at all
+    private static final long DEFAULT_MILLIS = 1000;
+
+    private static final Map<String, Long> history = loadHistory();
+    private static final Map<String, LongAdder> measured = new ConcurrentHashMap<>();
+
+    static {
+        if (TOTAL < 1 || INDEX < 0 || INDEX >= TOTAL) {
+            throw new RuntimeException("Invalid shard: shard.index=" + INDEX + ", shard.total=" + TOTAL
+                    + " (index is 0-based and must be below total)");
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(TestSharding::saveHistory, "shard-history-save"));
+    }
+
+    /**
+     * Check if the run is split into more than one shard
+     */
+    public static boolean isEnabled() {
+        return TOTAL > 1;
+    }
+
+    public static int getIndex() {
+        return INDEX;
+    }
+
+    public static int getTotal() {
+        return TOTAL;
+    }
+
+    /**
+     * History key of a Cucumber scenario (outline examples have their own line);
+     * feature files are keyed relative to the working directory so history is
+     * portable between machines
+     */
+    public static String scenarioKey(URI uri, int line) {
+        return WORKING_DIR.relativize(uri) + ":" + line;
+    }
+
+    /**
+     * Items of this shard, in their original order. pool names an independent
+     * assignment (e.g. "testng", "cucumber"); the same key always goes to the same shard.
+     */
+    public static <T> List<T> select(String pool, List<T> items, Function<T, String> key) {
+        if (!isEnabled()) {
+            return items;
+        }
+        Map<String, Integer> assignment = assign(pool, items.stream().map(key).toList());
+        List<T> selected = new ArrayList<>();
+        for (T item : items) {
+            if (assignment.get(key.apply(item)) == INDEX) {
+                selected.add(item);
+            }
+        }
+        log.info("Shard {}/{} runs {} of {} {} items", INDEX + 1, TOTAL, selected.size(), items.size(), pool);
+        return selected;
+    }
+
+    /**
+     * Shard of every key: longest expected duration first, to the least loaded shard
+     */
+    public static Map<String, Integer> assign(String pool, Collection<String> keys) {
+        TreeSet<String> distinct = new TreeSet<>(keys);
+        long known = distinct.stream().filter(history::containsKey).count();
+        // Unknown items are expected to take as long as the average known one
+        long fallback = known == 0 ? DEFAULT_MILLIS
+                : distinct.stream().filter(history::containsKey).mapToLong(history::get).sum() / known;
+
+        List<String> ordered = new ArrayList<>(distinct);
+        ordered.sort(Comparator.comparingLong((String k) -> history.getOrDefault(k, fallback)).reversed()
+                .thenComparing(Comparator.naturalOrder()));
+
+        // Ties go to shards in an order rotated per pool, so shard 0 does not get the
+        // longest item of every pool
+        int offset = Math.floorMod(pool.hashCode(), TOTAL);
+        long[] load = new long[TOTAL];
+        Map<String, Integer> assignment = new HashMap<>();
+        for (String key : ordered) {
+            int best = -1;
+            for (int i = 0; i < TOTAL; i++) {
+                int shard = (i + offset) % TOTAL;
+                if (best < 0 || load[shard] < load[best]) {
+                    best = shard;
+                }
+            }
+            load[best] += history.getOrDefault(key, fallback);
+            assignment.put(key, best);
+        }
+        return assignment;
+    }
+
+    /**
+     * Record the duration of one test or scenario invocation (data-driven invocations add up)
+     */
+    public static void recordDuration(String key, long millis) {
+        measured.computeIfAbsent(key, k -> new LongAdder()).add(millis);
+    }
+
+    /**
+     * Durations of all history files; for keys in several files the newest file wins
+     */
+    private static Map<String, Long> loadHistory() {
+        Map<String, Long> durations = new HashMap<>();
+        if (!Files.isDirectory(HISTORY_DIR)) {
+            return durations;
+        }
+        try (Stream<Path> files = Files.list(HISTORY_DIR)) {
+            List<Path> sorted = files.filter(f -> f.getFileName().toString().matches("durations-.*\\.properties"))
+                    .sorted(Comparator.comparing(f -> f.toFile().lastModified()))
+                    .toList();
+            for (Path file : sorted) {
+                Properties properties = new Properties();
+                try (InputStream in = Files.newInputStream(file)) {
+                    properties.load(in);
+                }
+                properties.stringPropertyNames().forEach(key ->
+                        durations.put(key, Long.parseLong(properties.getProperty(key))));
+            }
+        } catch (IOException | NumberFormatException e) {
+            log.warn("Ignoring unreadable shard history in " + HISTORY_DIR + ": " + e.getMessage());
+            durations.clear();
+        }
+        return durations;
+    }
+
+    /**
+     * Write this shard's measured durations, smoothed with the previous value
+     */
+    private static void saveHistory() {
+        if (measured.isEmpty()) {
+            return;
+        }
+        Properties properties = new Properties();
+        measured.forEach((key, millis) -> {
+            Long previous = history.get(key);
+            long value = previous == null ? millis.sum() : (previous + millis.sum()) / 2;
+            properties.setProperty(key, String.valueOf(value));
+        });
+        Path file = HISTORY_DIR.resolve("durations-" + INDEX + "-of-" + TOTAL + ".properties");
+        try {
+            Files.createDirectories(HISTORY_DIR);
+            try (OutputStream out = Files.newOutputStream(file)) {
+                properties.store(out, "Test durations in ms, shard " + (INDEX + 1) + " of " + TOTAL);
+            }
+        } catch (IOException e) {
+            log.warn("Failed to save shard history to " + file + ": " + e.getMessage());
+        }
+    }
+}
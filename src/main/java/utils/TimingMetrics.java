@@ -0,0 +1,250 @@
+package utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Timing Metrics
+ * Records wall time of Cucumber steps, TestNG tests, page-object actions,
+ * waits and WebDriver commands in lock-free latency histograms, keyed by
+ * kind (e.g. "step.cucumber", "action.click", "wait.visible",
+ * "command.WebDriver.findElement") and subject (step pattern, locator...).
+ * When the JVM exits a summary is logged and the histograms are exported to
+ * metrics.export.dir as Prometheus text (timings.prom) and JSON (timings.json).
+ * Gauges (e.g. "grid.queue.depth") are exported with them, read at export time.
+ */
+public class TimingMetrics {
+
+    private static final Logger log = LogManager.getLogger(TimingMetrics.class);
+
+    private static final String METRIC_NAME = "saucedemo_timing_seconds";
+
+    // Keyed by kind, then subject (usually a locator), so recording builds no key strings
+    private static final Map<String, Map<Object, Stats>> stats = new ConcurrentHashMap<>();
+
+    // Gauge name -> current value, read when exporting
+    private static final Map<String, Gauge> gauges = new ConcurrentHashMap<>();
+
+    // Histogram bucket upper bounds in ms; the last bucket is open-ended
+    private static final long[] BUCKET_BOUNDS_MS =
+            {1, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000, 15000, 30000, 60000};
+
+    private static final Instant runStarted = Instant.now();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            if (!stats.isEmpty() || !gauges.isEmpty()) {
+                log.info("Timings:\n" + getSummary());
+                String dir = ConfigReader.getProperty("metrics.export.dir");
+                if (dir != null && !dir.isBlank()) {
+                    try {
+                        export(Paths.get(dir));
+                    } catch (IOException e) {
+                        log.warn("Failed to export timing metrics: " + e.getMessage());
+                    }
+                }
+            }
+        }, "timing-metrics-export"));
+    }
+
+    private record Gauge(String help, LongSupplier value) {
+    }
+
+    private static class Stats {
+        final LongAdder count = new LongAdder();
+        final LongAdder totalNanos = new LongAdder();
+        final AtomicLong maxNanos = new AtomicLong();
+        final LongAdder[] buckets = new LongAdder[BUCKET_BOUNDS_MS.length + 1];
+
+        Stats() {
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        /**
+         * Upper bound (ms) of the bucket containing the given percentile, -1 if open-ended
+         */
+        long percentileBound(double percentile) {
+            long total = count.sum();
+            long threshold = (long) Math.ceil(total * percentile);
+            long seen = 0;
+            for (int i = 0; i < BUCKET_BOUNDS_MS.length; i++) {
+                seen += buckets[i].sum();
+                if (seen >= threshold) {
+                    return BUCKET_BOUNDS_MS[i];
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Record one timing
+     */
+    public static void record(String kind, Object subject, long nanos) {
+        Stats s = stats.computeIfAbsent(kind, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(subject == null ? "" : subject, key -> new Stats());
+        s.count.increment();
+        s.totalNanos.add(nanos);
+        s.maxNanos.accumulateAndGet(nanos, Math::max);
+        s.buckets[bucketIndex(nanos / 1_000_000)].increment();
+    }
+
+    /**
+     * Register a gauge, e.g. "grid.queue.depth"; its value is read at export time
+     * and exported as saucedemo_grid_queue_depth
+     */
+    public static void gauge(String name, String help, LongSupplier value) {
+        gauges.put(name, new Gauge(help, value));
+    }
+
+    private static int bucketIndex(long millis) {
+        for (int i = 0; i < BUCKET_BOUNDS_MS.length; i++) {
+            if (millis < BUCKET_BOUNDS_MS[i]) {
+                return i;
+            }
+        }
+        return BUCKET_BOUNDS_MS.length;
+    }
+
+    /**
+     * Recorded stats sorted by kind, then subject
+     */
+    private static Map<String, Map<String, Stats>> sorted() {
+        Map<String, Map<String, Stats>> sorted = new TreeMap<>();
+        stats.forEach((kind, subjects) -> {
+            Map<String, Stats> bySubject = sorted.computeIfAbsent(kind, key -> new TreeMap<>());
+            subjects.forEach((subject, s) -> bySubject.put(String.valueOf(subject), s));
+        });
+        return sorted;
+    }
+
+    /**
+     * Get summary of all recorded timings, one line per kind and subject, then one per gauge
+     * (p50/p95 are reported as the upper bound of their histogram bucket)
+     */
+    public static String getSummary() {
+        StringBuilder summary = new StringBuilder();
+        sorted().forEach((kind, subjects) -> subjects.forEach((subject, s) -> {
+            long count = s.count.sum();
+            summary.append(String.format("%-70s calls=%-6d avg=%8.1fms max=%8.1fms p50<=%s p95<=%s%n",
+                    kind + " " + subject, count,
+                    count == 0 ? 0 : s.totalNanos.sum() / 1_000_000.0 / count,
+                    s.maxNanos.get() / 1_000_000.0,
+                    formatBound(s.percentileBound(0.50)),
+                    formatBound(s.percentileBound(0.95))));
+        }));
+        new TreeMap<>(gauges).forEach((name, gauge) ->
+                summary.append(String.format("%-70s value=%d%n", name, gauge.value().getAsLong())));
+        return summary.toString();
+    }
+
+    private static String formatBound(long boundMs) {
+        return boundMs < 0 ? "inf" : boundMs + "ms";
+    }
+
+    /**
+     * Write timings.prom (Prometheus text exposition format, e.g. for the node_exporter
+     * textfile collector or a Pushgateway) and timings.json into dir
+     */
+    public static void export(Path dir) throws IOException {
+        Files.createDirectories(dir);
+        Map<String, Map<String, Stats>> sorted = sorted();
+        Files.writeString(dir.resolve("timings.prom"), toPrometheus(sorted));
+        Files.writeString(dir.resolve("timings.json"), toJson(sorted));
+        log.info("Timing metrics exported to {}", dir);
+    }
+
+    private static String toPrometheus(Map<String, Map<String, Stats>> sorted) {
+        StringBuilder out = new StringBuilder();
+        out.append("# HELP ").append(METRIC_NAME)
+                .append(" Wall time of steps, page-object actions, waits and WebDriver commands\n");
+        out.append("# TYPE ").append(METRIC_NAME).append(" histogram\n");
+        sorted.forEach((kind, subjects) -> subjects.forEach((subject, s) -> {
+            String labels = "kind=\"" + escapeLabel(kind) + "\",subject=\"" + escapeLabel(subject) + "\"";
+            // Count from the buckets so +Inf always matches _count
+            long cumulative = 0;
+            for (int i = 0; i < s.buckets.length; i++) {
+                cumulative += s.buckets[i].sum();
+                String le = i < BUCKET_BOUNDS_MS.length ? seconds(BUCKET_BOUNDS_MS[i] * 1_000_000) : "+Inf";
+                out.append(METRIC_NAME).append("_bucket{").append(labels)
+                        .append(",le=\"").append(le).append("\"} ").append(cumulative).append('\n');
+            }
+            out.append(METRIC_NAME).append("_sum{").append(labels).append("} ")
+                    .append(seconds(s.totalNanos.sum())).append('\n');
+            out.append(METRIC_NAME).append("_count{").append(labels).append("} ")
+                    .append(cumulative).append('\n');
+        }));
+        new TreeMap<>(gauges).forEach((name, gauge) -> {
+            String metric = "saucedemo_" + name.replaceAll("[^a-zA-Z0-9_]", "_");
+            out.append("# HELP ").append(metric).append(' ').append(gauge.help()).append('\n');
+            out.append("# TYPE ").append(metric).append(" gauge\n");
+            out.append(metric).append(' ').append(gauge.value().getAsLong()).append('\n');
+        });
+        return out.toString();
+    }
+
+    private static String toJson(Map<String, Map<String, Stats>> sorted) {
+        List<Map<String, Object>> timings = new ArrayList<>();
+        sorted.forEach((kind, subjects) -> subjects.forEach((subject, s) -> {
+            long count = s.count.sum();
+            Map<String, Object> buckets = new LinkedHashMap<>();
+            for (int i = 0; i < s.buckets.length; i++) {
+                buckets.put(i < BUCKET_BOUNDS_MS.length ? String.valueOf(BUCKET_BOUNDS_MS[i]) : "+Inf",
+                        s.buckets[i].sum());
+            }
+            Map<String, Object> timing = new LinkedHashMap<>();
+            timing.put("kind", kind);
+            timing.put("subject", subject);
+            timing.put("count", count);
+            timing.put("totalMillis", s.totalNanos.sum() / 1_000_000.0);
+            timing.put("avgMillis", count == 0 ? 0 : s.totalNanos.sum() / 1_000_000.0 / count);
+            timing.put("maxMillis", s.maxNanos.get() / 1_000_000.0);
+            timing.put("p50Millis", bound(s.percentileBound(0.50)));
+            timing.put("p95Millis", bound(s.percentileBound(0.95)));
+            timing.put("bucketsMillis", buckets);
+            timings.add(timing);
+        }));
+
+        Map<String, Object> run = new LinkedHashMap<>();
+        run.put("started", runStarted.toString());
+        run.put("finished", Instant.now().toString());
+        run.put("browser", ConfigReader.getProperty("browser"));
+        run.put("timings", timings);
+        Map<String, Object> gaugeValues = new LinkedHashMap<>();
+        new TreeMap<>(gauges).forEach((name, gauge) -> gaugeValues.put(name, gauge.value().getAsLong()));
+        run.put("gauges", gaugeValues);
+        return new Json().toJson(run);
+    }
+
+    // Open-ended bucket has no upper bound
+    private static Long bound(long boundMs) {
+        return boundMs < 0 ? null : boundMs;
+    }
+
+    private static String seconds(long nanos) {
+        return String.format(Locale.ROOT, "%.6f", nanos / 1e9);
+    }
+
+    private static String escapeLabel(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
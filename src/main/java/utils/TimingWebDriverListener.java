@@ -0,0 +1,58 @@
+package utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+
+/**
+ * Timing WebDriver Listener
+ * Times every call made through a driver decorated with EventFiringDecorator
+ * (driver, element, navigation, options...) and records it in TimingMetrics
+ * as "command.<interface>.<method>", with the By as subject for find calls.
+ * Failed calls are recorded too: a findElement that throws still cost a round-trip.
+ */
+public class TimingWebDriverListener implements WebDriverListener {
+
+    // Start times of the calls in progress on this thread
+    private static final ThreadLocal<ArrayDeque<Long>> starts = ThreadLocal.withInitial(ArrayDeque::new);
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        if (isTimed(method)) {
+            starts.get().push(System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        record(method, args);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        record(method, args);
+    }
+
+    private static void record(Method method, Object[] args) {
+        if (!isTimed(method)) {
+            return;
+        }
+        Long start = starts.get().poll();
+        if (start == null) {
+            return;
+        }
+        // Only locators are kept as subject; other arguments (text, scripts, URLs) would
+        // multiply the number of series
+        Object subject = args != null && args.length > 0 && args[0] instanceof By ? args[0] : "";
+        TimingMetrics.record("command." + method.getDeclaringClass().getSimpleName() + "." + method.getName(),
+                subject, System.nanoTime() - start);
+    }
+
+    // equals/hashCode/toString of the decorated objects are not WebDriver commands
+    private static boolean isTimed(Method method) {
+        return method.getDeclaringClass() != Object.class;
+    }
+}
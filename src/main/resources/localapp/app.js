@@ -0,0 +1,287 @@
+/*
+ * Behaviour for the local SauceDemo stand-in pages.
+ * Mirrors the live site's client-side state: the "session-username" cookie marks a
+ * logged-in user and the "cart-contents" localStorage entry holds the cart item ids.
+ * The rules (users, messages, catalog, sorting, tax) are the server's /api/
+ * endpoints (utils.LocalAppApi), which the HTTP backend calls as well.
+ */
+(function () {
+    'use strict';
+
+    // ---------- Rules ----------
+
+    // Synchronous on purpose: like the live site, whose rules run in the page, a page is
+    // rendered before its load event and a click has taken effect when it returns
+    function api(endpoint, body) {
+        var request = new XMLHttpRequest();
+        request.open('POST', 'api/' + endpoint, false);
+        request.setRequestHeader('Content-Type', 'application/json');
+        request.send(JSON.stringify(body || {}));
+        var response = JSON.parse(request.responseText);
+        if (request.status !== 200) {
+            throw new Error('api/' + endpoint + ': ' + response.error);
+        }
+        return response;
+    }
+
+    // ---------- State ----------
+
+    function getCookie(name) {
+        var match = document.cookie.match(new RegExp('(?:^|; )' + name + '=([^;]*)'));
+        return match ? decodeURIComponent(match[1]) : null;
+    }
+
+    function setSession(username) {
+        document.cookie = 'session-username=' + encodeURIComponent(username) + '; path=/; max-age=600';
+    }
+
+    function clearSession() {
+        document.cookie = 'session-username=; path=/; max-age=0';
+        localStorage.removeItem('cart-contents');
+    }
+
+    function getCart() {
+        try {
+            return JSON.parse(localStorage.getItem('cart-contents')) || [];
+        } catch (e) {
+            return [];
+        }
+    }
+
+    function setCart(ids) {
+        if (ids.length) {
+            localStorage.setItem('cart-contents', JSON.stringify(ids));
+        } else {
+            localStorage.removeItem('cart-contents');
+        }
+        renderBadge();
+    }
+
+    // ---------- Shared UI ----------
+
+    function el(tag, attrs, children) {
+        var node = document.createElement(tag);
+        Object.keys(attrs || {}).forEach(function (key) { node.setAttribute(key, attrs[key]); });
+        (children || []).forEach(function (child) {
+            node.appendChild(typeof child === 'string' ? document.createTextNode(child) : child);
+        });
+        return node;
+    }
+
+    function showError(container, message) {
+        container.innerHTML = '';
+        container.className = 'error-message-container error';
+        var close = el('button', {'class': 'error-button', 'data-test': 'error-button'}, ['x']);
+        close.addEventListener('click', function () {
+            container.innerHTML = '';
+            container.className = 'error-message-container';
+        });
+        container.appendChild(el('h3', {'data-test': 'error'}, [message, close]));
+    }
+
+    function renderHeader() {
+        var header = document.querySelector('.primary_header');
+        if (!header) {
+            return;
+        }
+        var menu = el('div', {'class': 'bm-menu-wrap', 'aria-hidden': 'true'}, [
+            el('nav', {'class': 'bm-item-list'}, [
+                el('a', {id: 'inventory_sidebar_link', 'class': 'bm-item menu-item', href: 'inventory.html', 'data-test': 'inventory-sidebar-link'}, ['All Items']),
+                el('a', {id: 'about_sidebar_link', 'class': 'bm-item menu-item', href: 'https://saucelabs.com/', 'data-test': 'about-sidebar-link'}, ['About']),
+                el('a', {id: 'logout_sidebar_link', 'class': 'bm-item menu-item', href: '#', 'data-test': 'logout-sidebar-link'}, ['Logout']),
+                el('a', {id: 'reset_sidebar_link', 'class': 'bm-item menu-item', href: '#', 'data-test': 'reset-sidebar-link'}, ['Reset App State'])
+            ]),
+            el('button', {id: 'react-burger-cross-btn', type: 'button'}, ['Close Menu'])
+        ]);
+        var burger = el('button', {id: 'react-burger-menu-btn', type: 'button'}, ['Open Menu']);
+        var cartLink = el('a', {'class': 'shopping_cart_link', href: 'cart.html', 'data-test': 'shopping-cart-link'});
+
+        header.appendChild(el('div', {'class': 'bm-burger-button'}, [burger]));
+        header.appendChild(menu);
+        header.appendChild(el('div', {'class': 'app_logo'}, ['Swag Labs']));
+        header.appendChild(el('div', {id: 'shopping_cart_container', 'class': 'shopping_cart_container'}, [cartLink]));
+
+        burger.addEventListener('click', function () {
+            menu.classList.add('open');
+            menu.setAttribute('aria-hidden', 'false');
+        });
+        menu.querySelector('#react-burger-cross-btn').addEventListener('click', function () {
+            menu.classList.remove('open');
+            menu.setAttribute('aria-hidden', 'true');
+        });
+        menu.querySelector('#logout_sidebar_link').addEventListener('click', function (event) {
+            event.preventDefault();
+            clearSession();
+            location.href = './';
+        });
+        menu.querySelector('#reset_sidebar_link').addEventListener('click', function (event) {
+            event.preventDefault();
+            setCart([]);
+            if (document.body.dataset.page === 'inventory') {
+                renderInventory();
+            }
+        });
+        renderBadge();
+    }
+
+    function renderBadge() {
+        var link = document.querySelector('.shopping_cart_link');
+        if (!link) {
+            return;
+        }
+        link.innerHTML = '';
+        var count = getCart().length;
+        if (count) {
+            link.appendChild(el('span', {'class': 'shopping_cart_badge', 'data-test': 'shopping-cart-badge'}, [String(count)]));
+        }
+    }
+
+    // p is an item of an /api/ listing
+    function itemRow(p, rowClass, withQuantity, buttonFactory) {
+        var details = [
+            el('a', {href: '#', id: 'item_' + p.id + '_title_link', 'data-test': 'item-' + p.id + '-title-link'}, [
+                el('div', {'class': 'inventory_item_name', 'data-test': 'inventory-item-name'}, [p.name])
+            ]),
+            el('div', {'class': 'inventory_item_desc', 'data-test': 'inventory-item-desc'}, [p.desc])
+        ];
+        var priceBar = el('div', {'class': rowClass === 'inventory_item' ? 'pricebar' : 'item_pricebar'}, [
+            el('div', {'class': 'inventory_item_price', 'data-test': 'inventory-item-price'}, [p.priceText])
+        ]);
+        if (buttonFactory) {
+            priceBar.appendChild(buttonFactory(p));
+        }
+        var children = [];
+        if (withQuantity) {
+            children.push(el('div', {'class': 'cart_quantity', 'data-test': 'item-quantity'}, ['1']));
+        }
+        children.push(el('div', {'class': rowClass === 'inventory_item' ? 'inventory_item_description' : 'cart_item_label'},
+            [el('div', {'class': 'inventory_item_label'}, details), priceBar]));
+        return el('div', {'class': rowClass, 'data-test': rowClass.replace('_', '-')}, children);
+    }
+
+    function cartButton(p, onChange) {
+        var button = el('button', {
+            'class': 'btn btn_small btn_inventory ' + (p.inCart ? 'btn_secondary' : 'btn_primary'),
+            'data-test': p.buttonId, id: p.buttonId, name: p.buttonId
+        }, [p.inCart ? 'Remove' : 'Add to cart']);
+        button.addEventListener('click', function () {
+            setCart(api(p.inCart ? 'cart/remove' : 'cart/add', {cart: getCart(), id: p.id}).cart);
+            onChange();
+        });
+        return button;
+    }
+
+    // ---------- Pages ----------
+
+    function renderInventory() {
+        var list = document.querySelector('.inventory_list');
+        var order = document.querySelector('.product_sort_container').value;
+        var items = api('inventory', {sort: order, cart: getCart()}).items;
+        list.innerHTML = '';
+        items.forEach(function (p) {
+            list.appendChild(itemRow(p, 'inventory_item', false, function (item) {
+                return cartButton(item, renderInventory);
+            }));
+        });
+    }
+
+    // Items of the cart page, or of the checkout overview (without buttons)
+    function renderCartList(items, withButtons) {
+        var list = document.querySelector('.cart_list');
+        list.innerHTML = '';
+        list.appendChild(el('div', {'class': 'cart_quantity_label'}, ['QTY']));
+        list.appendChild(el('div', {'class': 'cart_desc_label'}, ['Description']));
+        items.forEach(function (p) {
+            list.appendChild(itemRow(p, 'cart_item', true, withButtons ? function (item) {
+                return cartButton(item, renderCart);
+            } : null));
+        });
+    }
+
+    function renderCart() {
+        renderCartList(api('cart', {cart: getCart()}).items, true);
+    }
+
+    var pages = {
+        'login': function () {
+            var form = document.getElementById('login-form');
+            form.addEventListener('submit', function (event) {
+                event.preventDefault();
+                var username = document.getElementById('user-name').value;
+                var password = document.getElementById('password').value;
+                var error = api('login', {username: username, password: password}).error;
+                if (error) {
+                    showError(document.querySelector('.error-message-container'), error);
+                } else {
+                    setSession(username);
+                    location.href = 'inventory.html';
+                }
+            });
+            var redirected = new URLSearchParams(location.search).get('denied');
+            if (redirected) {
+                showError(document.querySelector('.error-message-container'),
+                    api('access-denied', {path: redirected}).error);
+            }
+        },
+        'inventory': function () {
+            document.querySelector('.product_sort_container').addEventListener('change', renderInventory);
+            renderInventory();
+        },
+        'cart': function () {
+            renderCart();
+            document.getElementById('continue-shopping').addEventListener('click', function () {
+                location.href = 'inventory.html';
+            });
+            document.getElementById('checkout').addEventListener('click', function () {
+                location.href = 'checkout-step-one.html';
+            });
+        },
+        'checkout-step-one': function () {
+            document.getElementById('cancel').addEventListener('click', function () {
+                location.href = 'cart.html';
+            });
+            document.getElementById('checkout-form').addEventListener('submit', function (event) {
+                event.preventDefault();
+                var error = api('checkout/information', {
+                    firstName: document.getElementById('first-name').value,
+                    lastName: document.getElementById('last-name').value,
+                    postalCode: document.getElementById('postal-code').value
+                }).error;
+                if (error) {
+                    showError(document.querySelector('.error-message-container'), error);
+                } else {
+                    location.href = 'checkout-step-two.html';
+                }
+            });
+        },
+        'checkout-step-two': function () {
+            var overview = api('checkout/overview', {cart: getCart()});
+            renderCartList(overview.items, false);
+            document.querySelector('.summary_subtotal_label').textContent = overview.subtotal;
+            document.querySelector('.summary_tax_label').textContent = overview.tax;
+            document.querySelector('.summary_total_label').textContent = overview.total;
+            document.getElementById('cancel').addEventListener('click', function () {
+                location.href = 'inventory.html';
+            });
+            document.getElementById('finish').addEventListener('click', function () {
+                setCart([]);
+                location.href = 'checkout-complete.html';
+            });
+        },
+        'checkout-complete': function () {
+            document.getElementById('back-to-products').addEventListener('click', function () {
+                location.href = 'inventory.html';
+            });
+        }
+    };
+
+    document.addEventListener('DOMContentLoaded', function () {
+        var page = document.body.dataset.page;
+        if (page !== 'login' && !getCookie('session-username')) {
+            location.replace('./?denied=' + encodeURIComponent(location.pathname));
+            return;
+        }
+        renderHeader();
+        pages[page]();
+    });
+})();
@@ -0,0 +1,74 @@
+package benchmarks;
+
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.TreeMap;
+
+/**
+ * Benchmark Runner
+ * Runs the selected JMH benchmarks once per thread count in benchmark.threads
+ * (e.g. "1,4,8"), so contention regressions show up next to single-thread cost.
+ * Writes target/jmh-results-threads-N.json per thread count and a combined
+ * target/jmh-summary.csv.
+ *
+ * Run with: mvn test -Pbenchmark [-Dbenchmark.include=Config] [-Dbenchmark.threads=1,8]
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws Exception {
+        String include = System.getProperty("benchmark.include", ".*");
+        String[] threadCounts = System.getProperty("benchmark.threads", "1,4,8").split(",");
+
+        List<String> rows = new ArrayList<>();
+        rows.add("Benchmark,Params,Threads,Mode,Score,Error,Unit");
+        for (String value : threadCounts) {
+            int threads = Integer.parseInt(value.trim());
+            Options options = new OptionsBuilder()
+                    .include(include)
+                    .threads(threads)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result("target/jmh-results-threads-" + threads + ".json")
+                    .build();
+            Collection<RunResult> results = new Runner(options).run();
+            for (RunResult result : results) {
+                rows.add(row(result, threads));
+            }
+        }
+
+        Path summary = Paths.get("target/jmh-summary.csv");
+        Files.createDirectories(summary.getParent());
+        Files.write(summary, rows);
+        System.out.println();
+        rows.forEach(System.out::println);
+        System.out.println("Summary written to " + summary);
+    }
+
+    private static String row(RunResult result, int threads) {
+        var params = result.getParams();
+        // Sorted so rows of the same benchmark line up across thread counts
+        TreeMap<String, String> paramValues = new TreeMap<>();
+        for (String key : params.getParamsKeys()) {
+            paramValues.put(key, params.getParam(key));
+        }
+        var primary = result.getPrimaryResult();
+        return String.join(",",
+                params.getBenchmark(),
+                paramValues.toString().replace(",", ";"),
+                String.valueOf(threads),
+                params.getMode().shortLabel(),
+                String.format(Locale.ROOT, "%.3f", primary.getScore()),
+                String.format(Locale.ROOT, "%.3f", primary.getScoreError()),
+                primary.getScoreUnit());
+    }
+}
@@ -0,0 +1,33 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import utils.ConfigReader;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ConfigReader lookups, which page objects and utilities do on every action
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigReaderBenchmark {
+
+    @Benchmark
+    public String getProperty() {
+        return ConfigReader.getProperty("browser");
+    }
+
+    @Benchmark
+    public long getLong() {
+        return ConfigReader.getLong("wait.poll.max.millis");
+    }
+
+    @Benchmark
+    public int getTimeout() {
+        return ConfigReader.getTimeout();
+    }
+}
@@ -0,0 +1,52 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import utils.ExcelReader;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ExcelReader lookups: a cached sheet versus a full streaming parse (the file's
+ * modification time is bumped before each call to force a re-read)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExcelReaderBenchmark {
+
+    private static final String SHEET = "LoginData";
+
+    private final AtomicLong modifications = new AtomicLong();
+    private File workbook;
+    private long baseModified;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        // Work on a copy so the real test data keeps its timestamp
+        Path copy = Files.createTempFile("testdata-benchmark", ".xlsx");
+        Files.copy(Paths.get("src/test/resources/testdata/testdata.xlsx"), copy, StandardCopyOption.REPLACE_EXISTING);
+        workbook = copy.toFile();
+        workbook.deleteOnExit();
+        baseModified = workbook.lastModified();
+    }
+
+    @Benchmark
+    public int cachedSheet() {
+        return ExcelReader.getSheet(workbook.getPath(), SHEET).size();
+    }
+
+    @Benchmark
+    public int coldParse() {
+        workbook.setLastModified(baseModified + modifications.incrementAndGet() * 1000);
+        return ExcelReader.getSheet(workbook.getPath(), SHEET).size();
+    }
+}
@@ -0,0 +1,34 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import utils.ExtentReportManager;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Extent test creation and completion, contended when run with several threads.
+ * Every test stays in the report's memory, so each measurement is a fixed batch
+ * of 1000 tests rather than a timed loop; background flushes are pushed out of
+ * the measurement so only test bookkeeping is timed.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, batchSize = 1000)
+@Measurement(iterations = 5, batchSize = 1000)
+@Fork(1)
+public class ExtentReportBenchmark {
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        System.setProperty("extent.report.path", "target/benchmark/ExtentReport.html");
+        System.setProperty("extent.flush.every.tests", String.valueOf(Integer.MAX_VALUE));
+        System.setProperty("extent.flush.interval.seconds", "3600");
+    }
+
+    @Benchmark
+    public void startAndEndTest() {
+        ExtentReportManager.startTest("Benchmark test", "benchmark");
+        ExtentReportManager.endTest();
+    }
+}
@@ -0,0 +1,56 @@
+package benchmarks;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.openjdk.jmh.annotations.*;
+import org.openqa.selenium.By;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-action logging overhead of BasePage interactions against a stub driver,
+ * with interaction logs disabled (root level WARN, as in parallel runs where they
+ * drop to TRACE). "legacy" reproduces the old concatenating log call,
+ * "parameterized" the current one.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InteractionLoggingBenchmark {
+
+    private static final Logger legacyLog = LogManager.getLogger("benchmarks.LegacyBasePage");
+
+    private final By locator = By.id("add-to-cart-sauce-labs-backpack");
+    private StubPage page;
+
+    @Setup
+    public void setUp() {
+        Configurator.setRootLevel(Level.WARN);
+        page = new StubPage(new StubWebDriver());
+    }
+
+    @Benchmark
+    public void legacyConcatenatedLog() {
+        legacyLog.info("Clicked on element: " + locator);
+    }
+
+    @Benchmark
+    public void parameterizedLog() {
+        legacyLog.log(Level.INFO, "Clicked on element: {}", locator);
+    }
+
+    @Benchmark
+    public void basePageClick() {
+        page.clickOn(locator);
+    }
+
+    @Benchmark
+    public String basePageGetText() {
+        return page.textOf(locator);
+    }
+}
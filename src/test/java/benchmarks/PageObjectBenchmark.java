@@ -0,0 +1,51 @@
+package benchmarks;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.openjdk.jmh.annotations.*;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Framework cost of BasePage actions against a stub driver (no browser),
+ * including the adaptive wait and wait-metrics recording around each action.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageObjectBenchmark {
+
+    private final By locator = By.id("add-to-cart-sauce-labs-backpack");
+    private StubPage page;
+
+    @Setup
+    public void setUp() {
+        Configurator.setRootLevel(Level.WARN);
+        page = new StubPage(new StubWebDriver());
+    }
+
+    @Benchmark
+    public void click() {
+        page.clickOn(locator);
+    }
+
+    @Benchmark
+    public String getText() {
+        return page.textOf(locator);
+    }
+
+    @Benchmark
+    public boolean isDisplayed() {
+        return page.displayed(locator);
+    }
+
+    @Benchmark
+    public WebElement waitForElementVisible() {
+        return page.visible(locator);
+    }
+}
@@ -0,0 +1,81 @@
+package benchmarks;
+
+import org.apache.logging.log4j.core.config.Configurator;
+import org.openjdk.jmh.annotations.*;
+import utils.ScreenshotUtil;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ScreenshotUtil write paths as seen by the test thread: a repeated frame
+ * (deduplicated by hash) and a new frame (queued to the background writer,
+ * or written on the caller when the queue is full). Fixed batches bound the
+ * number of files written; they are deleted after the run.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, batchSize = 50)
+@Measurement(iterations = 5, batchSize = 50)
+@Fork(1)
+public class ScreenshotBenchmark {
+
+    private static final String NAME_PREFIX = "benchmark_";
+
+    @Param({"png", "jpeg"})
+    public String format;
+
+    private final AtomicLong frames = new AtomicLong();
+    private byte[] png;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        Configurator.setRootLevel(org.apache.logging.log4j.Level.WARN);
+        System.setProperty("screenshot.format", format);
+
+        BufferedImage image = new BufferedImage(640, 360, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        for (int x = 0; x < image.getWidth(); x += 8) {
+            graphics.setColor(new Color(x % 256, (x * 3) % 256, 200));
+            graphics.fillRect(x, 0, 8, image.getHeight());
+        }
+        graphics.dispose();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        png = out.toByteArray();
+    }
+
+    @Benchmark
+    public String saveRepeatedFrame() {
+        return ScreenshotUtil.saveAsync(png, NAME_PREFIX + "repeated");
+    }
+
+    @Benchmark
+    public String saveNewFrame() {
+        // Bytes after the PNG end chunk are ignored by decoders but change the content hash
+        long frame = frames.incrementAndGet();
+        byte[] unique = Arrays.copyOf(png, png.length + Long.BYTES);
+        ByteBuffer.wrap(unique, png.length, Long.BYTES).putLong(frame);
+        return ScreenshotUtil.saveAsync(unique, NAME_PREFIX + frame);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ScreenshotUtil.awaitPendingWrites(1, TimeUnit.MINUTES);
+        File[] written = new File("screenshots").listFiles((dir, name) -> name.startsWith(NAME_PREFIX));
+        if (written != null) {
+            for (File file : written) {
+                file.delete();
+            }
+        }
+    }
+}
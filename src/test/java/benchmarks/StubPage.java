@@ -0,0 +1,32 @@
+package benchmarks;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import pages.BasePage;
+
+/**
+ * Exposes BasePage's protected interactions to the benchmarks
+ */
+public class StubPage extends BasePage {
+
+    public StubPage(WebDriver driver) {
+        super(driver);
+    }
+
+    public void clickOn(By locator) {
+        click(locator);
+    }
+
+    public String textOf(By locator) {
+        return getText(locator);
+    }
+
+    public boolean displayed(By locator) {
+        return isDisplayed(locator);
+    }
+
+    public WebElement visible(By locator) {
+        return waitForElementVisible(locator);
+    }
+}
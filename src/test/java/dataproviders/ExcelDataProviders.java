@@ -0,0 +1,37 @@
+package dataproviders;
+
+import org.testng.annotations.DataProvider;
+import utils.ConfigReader;
+import utils.ExcelReader;
+
+import java.util.Iterator;
+
+/**
+ * Excel Data Providers
+ * Serve rows of testdata.xlsx lazily, one ExcelReader.TestDataRow per invocation.
+ * Sheets are parsed once per run (cached by ExcelReader) and can be consumed in parallel.
+ */
+public class ExcelDataProviders {
+
+    @DataProvider(name = "loginData", parallel = true)
+    public static Iterator<Object[]> loginData() {
+        return rows("LoginData");
+    }
+
+    private static Iterator<Object[]> rows(String sheetName) {
+        Iterator<ExcelReader.TestDataRow> rows = ExcelReader
+                .getSheet(ConfigReader.getProperty("testdata.file"), sheetName)
+                .iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return rows.hasNext();
+            }
+
+            @Override
+            public Object[] next() {
+                return new Object[]{rows.next()};
+            }
+        };
+    }
+}
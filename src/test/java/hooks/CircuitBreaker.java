@@ -0,0 +1,129 @@
+package hooks;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.SkipException;
+import utils.ConfigReader;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Circuit Breaker
+ * Guards preconditions shared by many tests (browser start, login page, login).
+ * After circuit.breaker.threshold consecutive failures of one precondition the
+ * breaker opens: tests needing it are skipped at once instead of each waiting
+ * for its own timeouts, and the skip points to the first failure as root cause.
+ * After circuit.breaker.retry.seconds one test is let through to probe again;
+ * a success closes the breaker.
+ * Skips are TestNG SkipExceptions, which Cucumber also reports as skipped.
+ */
+public class CircuitBreaker {
+
+    private static final Logger log = LogManager.getLogger(CircuitBreaker.class);
+
+    private static final int THRESHOLD = ConfigReader.getInt("circuit.breaker.threshold");
+    private static final long RETRY_NANOS = TimeUnit.SECONDS.toNanos(ConfigReader.getLong("circuit.breaker.retry.seconds"));
+
+    private static final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+    private static final ThreadLocal<String> currentTest = new ThreadLocal<>();
+
+    private final String precondition;
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicBoolean probing = new AtomicBoolean();
+    private final LongAdder skipped = new LongAdder();
+    // nanoTime when the breaker opened, 0 while closed
+    private volatile long openedAt;
+    private volatile Throwable rootCause;
+    private volatile String rootCauseTest;
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> breakers.values().forEach(breaker -> {
+            if (breaker.skipped.sum() > 0) {
+                log.warn("Circuit breaker '{}' skipped {} tests; root cause in {}: {}", breaker.precondition,
+                        breaker.skipped.sum(), breaker.rootCauseTest, String.valueOf(breaker.rootCause));
+            }
+        }), "circuit-breaker-summary"));
+    }
+
+    private CircuitBreaker(String precondition) {
+        this.precondition = precondition;
+    }
+
+    /**
+     * Name the test running on this thread, shown as the root-cause location in skips
+     */
+    public static void setCurrentTest(String name) {
+        currentTest.set(name);
+    }
+
+    /**
+     * Run a precondition through its breaker
+     */
+    public static void run(String precondition, Runnable action) {
+        call(precondition, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Run a precondition through its breaker and return its result
+     */
+    public static <T> T call(String precondition, Supplier<T> action) {
+        if (THRESHOLD <= 0) {
+            return action.get();
+        }
+        return breakers.computeIfAbsent(precondition, CircuitBreaker::new).guard(action);
+    }
+
+    private <T> T guard(Supplier<T> action) {
+        boolean probe = false;
+        if (openedAt != 0) {
+            probe = System.nanoTime() - openedAt >= RETRY_NANOS && probing.compareAndSet(false, true);
+            if (!probe) {
+                skipped.increment();
+                SkipException skip = new SkipException("Skipped: precondition '" + precondition + "' failed "
+                        + consecutiveFailures.get() + " times in a row; root cause in " + rootCauseTest
+                        + ": " + rootCause);
+                skip.initCause(rootCause);
+                throw skip;
+            }
+            log.info("Circuit breaker '{}' letting {} through to retry", precondition, currentTest.get());
+        }
+
+        try {
+            T result = action.get();
+            if (openedAt != 0 || consecutiveFailures.get() > 0) {
+                log.info("Circuit breaker '{}' closed after success in {}", precondition, currentTest.get());
+            }
+            consecutiveFailures.set(0);
+            rootCause = null;
+            openedAt = 0;
+            return result;
+        } catch (SkipException e) {
+            // A nested breaker is open; not a failure of this precondition
+            throw e;
+        } catch (RuntimeException | Error e) {
+            if (consecutiveFailures.incrementAndGet() == 1 || rootCause == null) {
+                rootCause = e;
+                rootCauseTest = currentTest.get();
+            }
+            if (consecutiveFailures.get() >= THRESHOLD && (openedAt == 0 || probe)) {
+                openedAt = System.nanoTime();
+                log.warn("Circuit breaker '{}' opened after {} consecutive failures; root cause in {}: {}",
+                        precondition, consecutiveFailures.get(), rootCauseTest, String.valueOf(rootCause));
+            }
+            throw e;
+        } finally {
+            if (probe) {
+                probing.set(false);
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package listeners;
+
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.MediaEntityBuilder;
+import io.cucumber.testng.AbstractTestNGCucumberTests;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import utils.DriverManager;
+import utils.ExtentReportManager;
+import utils.ScreenshotUtil;
+
+import java.util.Set;
+
+/**
+ * Extent TestNG Listener
+ * Creates one Extent test per TestNG test method. Cucumber scenarios are
+ * reported by hooks.Hooks instead, so the Cucumber runner is skipped here.
+ */
+public class ExtentTestNGListener implements ITestListener {
+
+    @Override
+    public void onTestStart(ITestResult result) {
+        if (isCucumberRunner(result)) {
+            return;
+        }
+        ExtentTest test = ExtentReportManager.startTest(
+                result.getTestClass().getRealClass().getSimpleName() + "." + result.getMethod().getMethodName(),
+                result.getMethod().getGroups());
+        Set<String> plannedTests = SuitePlanner.getPlannedTests(result);
+        if (plannedTests.size() > 1) {
+            test.info("Selected by " + String.join(", ", plannedTests) + "; run once in " + result.getTestContext().getName());
+        }
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        if (isCucumberRunner(result)) {
+            return;
+        }
+        ExtentReportManager.getTest().pass("Test passed");
+        ExtentReportManager.endTest();
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        if (isCucumberRunner(result)) {
+            return;
+        }
+        ExtentReportManager.getTest().fail(result.getThrowable());
+        // Driver is still open here; @AfterMethod runs after the listener
+        if (DriverManager.getDriver() != null) {
+            try {
+                ExtentReportManager.getTest().fail("Screenshot at failure",
+                        MediaEntityBuilder.createScreenCaptureFromBase64String(
+                                ScreenshotUtil.getBase64Screenshot(DriverManager.getDriver())).build());
+            } catch (Exception e) {
+                ExtentReportManager.getTest().warning("Failed to capture screenshot: " + e.getMessage());
+            }
+        }
+        ExtentReportManager.endTest();
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        if (isCucumberRunner(result)) {
+            return;
+        }
+        // Tests skipped because a configuration method failed never reach onTestStart
+        if (ExtentReportManager.getTest() == null) {
+            onTestStart(result);
+        }
+        ExtentReportManager.getTest().skip(result.getThrowable() != null
+                ? result.getThrowable().getMessage() : "Test skipped");
+        ExtentReportManager.endTest();
+    }
+
+    @Override
+    public void onFinish(ITestContext context) {
+        ExtentReportManager.flush();
+    }
+
+    private boolean isCucumberRunner(ITestResult result) {
+        return result.getInstance() instanceof AbstractTestNGCucumberTests;
+    }
+}
@@ -0,0 +1,29 @@
+package listeners;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+import utils.ConfigReader;
+
+import java.util.List;
+
+/**
+ * Parallel Execution Listener
+ * Applies parallel.execution / thread.count from config.properties to the suite
+ * before it runs. Cucumber scenarios are served by a parallel data provider, so
+ * the data provider thread count decides how many scenarios run at once.
+ */
+public class ParallelExecutionListener implements IAlterSuiteListener {
+
+    private static final Logger log = LogManager.getLogger(ParallelExecutionListener.class);
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        int threads = ConfigReader.isParallelExecution() ? ConfigReader.getThreadCount() : 1;
+        for (XmlSuite suite : suites) {
+            suite.setDataProviderThreadCount(threads);
+            log.info("Scenario threads for suite '{}': {}", suite.getName(), threads);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package listeners;
+
+import io.cucumber.testng.AbstractTestNGCucumberTests;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import utils.TestSharding;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sharding Listener
+ * Keeps only the TestNG methods assigned to this shard (see TestSharding) and
+ * records test durations for the next run's assignment.
+ * The assignment is computed over the methods of the whole suite, so a method
+ * listed in several <test> blocks lands on the same shard in all of them.
+ * The Cucumber runner is always kept; CucumberTestRunner shards its scenarios.
+ */
+public class ShardingListener implements IMethodInterceptor, ITestListener {
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        if (!TestSharding.isEnabled()) {
+            return methods;
+        }
+        List<String> suiteKeys = new ArrayList<>();
+        for (ITestNGMethod method : context.getSuite().getAllMethods()) {
+            if (!isCucumberRunner(method)) {
+                suiteKeys.add(key(method));
+            }
+        }
+        Map<String, Integer> assignment = TestSharding.assign("testng", suiteKeys);
+
+        List<IMethodInstance> selected = new ArrayList<>();
+        for (IMethodInstance instance : methods) {
+            ITestNGMethod method = instance.getMethod();
+            if (isCucumberRunner(method) || assignment.get(key(method)) == TestSharding.getIndex()) {
+                selected.add(instance);
+            }
+        }
+        return selected;
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        record(result);
+    }
+
+    private void record(ITestResult result) {
+        if (!isCucumberRunner(result.getMethod())) {
+            TestSharding.recordDuration(key(result.getMethod()), result.getEndMillis() - result.getStartMillis());
+        }
+    }
+
+    private static String key(ITestNGMethod method) {
+        return method.getQualifiedName();
+    }
+
+    private static boolean isCucumberRunner(ITestNGMethod method) {
+        return AbstractTestNGCucumberTests.class.isAssignableFrom(method.getRealClass());
+    }
+}
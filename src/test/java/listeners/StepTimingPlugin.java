@@ -0,0 +1,45 @@
+package listeners;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.HookTestStep;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestStepFinished;
+import utils.TestSharding;
+import utils.TimingMetrics;
+
+/**
+ * Step Timing Plugin
+ * Records the duration Cucumber measured for every step, hook and scenario
+ * in TimingMetrics. Steps are keyed by their step definition pattern, so
+ * "user enters username {string}" aggregates over all usernames.
+ * Scenario durations also feed the shard history (TestSharding).
+ * Registered in CucumberTestRunner's plugin list (scenario hooks do not see
+ * which step is running, so this is not done in hooks.Hooks).
+ */
+public class StepTimingPlugin implements ConcurrentEventListener {
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestStepFinished.class, this::onStepFinished);
+        publisher.registerHandlerFor(TestCaseFinished.class, this::onScenarioFinished);
+    }
+
+    private void onStepFinished(TestStepFinished event) {
+        long nanos = event.getResult().getDuration().toNanos();
+        if (event.getTestStep() instanceof PickleStepTestStep step) {
+            String pattern = step.getPattern();
+            TimingMetrics.record("step.cucumber", pattern != null ? pattern : step.getStep().getText(), nanos);
+        } else if (event.getTestStep() instanceof HookTestStep hook) {
+            TimingMetrics.record("hook.cucumber", hook.getCodeLocation(), nanos);
+        }
+    }
+
+    private void onScenarioFinished(TestCaseFinished event) {
+        long nanos = event.getResult().getDuration().toNanos();
+        TimingMetrics.record("scenario.cucumber", event.getTestCase().getName(), nanos);
+        TestSharding.recordDuration(TestSharding.scenarioKey(event.getTestCase().getUri(),
+                event.getTestCase().getLocation().getLine()), nanos / 1_000_000);
+    }
+}
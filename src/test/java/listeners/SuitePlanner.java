@@ -0,0 +1,82 @@
+package listeners;
+
+import io.cucumber.testng.AbstractTestNGCucumberTests;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ISuite;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import org.testng.xml.XmlTest;
+import utils.ConfigReader;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Suite Planner
+ * Runs every test method once per suite, even when several <test> blocks of
+ * testng.xml select it (e.g. a method in both the "smoke" and "regression"
+ * groups). The plan is the union of the methods selected by all blocks: each
+ * method runs in the first block that selects it and is dropped from the others.
+ * Its groups still appear as report categories, and ExtentTestNGListener notes
+ * the other blocks that selected it. Disable with suite.dedup=false.
+ */
+public class SuitePlanner implements IMethodInterceptor {
+
+    // Suite name -> method -> names of the <test> blocks selecting it, in testng.xml order
+    private static final Map<String, Map<String, Set<String>>> plans = new ConcurrentHashMap<>();
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        if (!ConfigReader.getBoolean("suite.dedup")) {
+            return methods;
+        }
+        Map<String, Set<String>> plan = getPlan(context.getSuite());
+        List<IMethodInstance> selected = new ArrayList<>();
+        for (IMethodInstance instance : methods) {
+            ITestNGMethod method = instance.getMethod();
+            Set<String> tests = plan.get(key(method));
+            if (isCucumberRunner(method) || tests == null || tests.iterator().next().equals(context.getName())) {
+                selected.add(instance);
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * Names of all <test> blocks that selected the method of this result (empty if not planned)
+     */
+    public static Set<String> getPlannedTests(ITestResult result) {
+        Map<String, Set<String>> plan = plans.get(result.getTestContext().getSuite().getName());
+        return plan == null ? Set.of() : plan.getOrDefault(key(result.getMethod()), Set.of());
+    }
+
+    private static Map<String, Set<String>> getPlan(ISuite suite) {
+        // Blocks can start in parallel; all of them see the same plan
+        return plans.computeIfAbsent(suite.getName(), name -> {
+            Map<String, Set<String>> plan = new ConcurrentHashMap<>();
+            // getAllMethods holds the methods every block selected after group filtering
+            for (XmlTest test : suite.getXmlSuite().getTests()) {
+                for (ITestNGMethod method : suite.getAllMethods()) {
+                    if (!isCucumberRunner(method) && test.getName().equals(method.getXmlTest().getName())) {
+                        plan.computeIfAbsent(key(method), k -> new LinkedHashSet<>()).add(test.getName());
+                    }
+                }
+            }
+            return plan;
+        });
+    }
+
+    private static String key(ITestNGMethod method) {
+        return method.getQualifiedName();
+    }
+
+    private static boolean isCucumberRunner(ITestNGMethod method) {
+        return AbstractTestNGCucumberTests.class.isAssignableFrom(method.getRealClass());
+    }
+}
@@ -0,0 +1,38 @@
+package listeners;
+
+import io.cucumber.testng.AbstractTestNGCucumberTests;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import utils.TimingMetrics;
+
+/**
+ * Timing Metrics Listener
+ * Records the duration of every TestNG test method in TimingMetrics.
+ * Cucumber scenarios are timed by StepTimingPlugin instead, so the Cucumber runner is skipped here.
+ */
+public class TimingMetricsListener implements ITestListener {
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onTestFailedButWithinSuccessPercentage(ITestResult result) {
+        record(result);
+    }
+
+    private void record(ITestResult result) {
+        if (result.getInstance() instanceof AbstractTestNGCucumberTests) {
+            return;
+        }
+        TimingMetrics.record("test.testng",
+                result.getTestClass().getRealClass().getSimpleName() + "." + result.getMethod().getMethodName(),
+                (result.getEndMillis() - result.getStartMillis()) * 1_000_000);
+    }
+}
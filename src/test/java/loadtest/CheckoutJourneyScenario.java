@@ -0,0 +1,30 @@
+package loadtest;
+
+import constants.AppConstants;
+
+import java.time.Duration;
+
+/**
+ * Checkout Journey Scenario
+ * The journey CheckoutTests.testCompleteCheckout drives through the UI, as page
+ * requests: login, inventory, cart, checkout information, overview, complete.
+ */
+public class CheckoutJourneyScenario extends SauceDemoScenario {
+
+    public CheckoutJourneyScenario(Duration requestTimeout) {
+        super(requestTimeout);
+    }
+
+    @Override
+    public void run(SampleRecorder recorder, long intendedStartNanos) {
+        super.run(recorder, intendedStartNanos);
+        sample(recorder, "4. View Cart", System.nanoTime(),
+                request(AppConstants.CART_URL).GET().build());
+        sample(recorder, "5. Checkout Information", System.nanoTime(),
+                request(AppConstants.CHECKOUT_STEP_ONE_URL).GET().build());
+        sample(recorder, "6. Checkout Overview", System.nanoTime(),
+                request(AppConstants.CHECKOUT_STEP_TWO_URL).GET().build());
+        sample(recorder, "7. Checkout Complete", System.nanoTime(),
+                request(AppConstants.CHECKOUT_COMPLETE_URL).GET().build());
+    }
+}
@@ -0,0 +1,134 @@
+package loadtest;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import utils.ConfigReader;
+
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Load Generator
+ * Java replacement for the JMeter load plan: runs SauceDemoScenario against
+ * AppConstants URLs with one thread per virtual user (virtual threads when the
+ * JDK has them) and prints a Summary Report / Aggregate Graph style table.
+ *
+ * closed model: load.users users ramped up over load.rampup.seconds, each running
+ * load.iterations iterations with load.think.millis think time.
+ * open model: iterations start at load.arrival.rate per second for
+ * load.duration.seconds regardless of how fast earlier ones finish, and latency
+ * is measured from each iteration's scheduled start (coordinated omission corrected).
+ *
+ * Run with: mvn test -Pload [-Dload.model=open] [-Dapp.target=local]
+ */
+public class LoadGenerator {
+
+    private static final Logger log = LogManager.getLogger(LoadGenerator.class);
+
+    public static void main(String[] args) throws Exception {
+        String model = ConfigReader.getProperty("load.model");
+        SampleRecorder recorder = new SampleRecorder(
+                ConfigReader.getLong("load.expected.interval.millis"));
+        SauceDemoScenario scenario = new SauceDemoScenario(
+                Duration.ofSeconds(ConfigReader.getLong("load.request.timeout.seconds")));
+
+        long start = System.nanoTime();
+        ExecutorService users = newUserExecutor();
+        try {
+            if ("open".equalsIgnoreCase(model)) {
+                runOpen(users, scenario, recorder);
+            } else if ("closed".equalsIgnoreCase(model)) {
+                runClosed(users, scenario, recorder);
+            } else {
+                throw new IllegalArgumentException("Unknown load.model: " + model + " (expected open or closed)");
+            }
+        } finally {
+            users.shutdown();
+            users.awaitTermination(1, TimeUnit.HOURS);
+        }
+
+        log.info("Load test ({} model) finished in {} s\n{}", model,
+                (System.nanoTime() - start) / 1_000_000_000, recorder.getSummary());
+        String reportFile = ConfigReader.getProperty("load.report.file");
+        recorder.writeCsv(Paths.get(reportFile));
+        log.info("Summary written to {}", reportFile);
+
+        // Flush async logging now: exec:java closes the classloader before JVM shutdown hooks run
+        LogManager.shutdown();
+    }
+
+    /**
+     * Fixed user population, each looping through its iterations
+     */
+    private static void runClosed(ExecutorService users, SauceDemoScenario scenario, SampleRecorder recorder) {
+        int userCount = ConfigReader.getInt("load.users");
+        int iterations = ConfigReader.getInt("load.iterations");
+        long rampUpNanos = TimeUnit.SECONDS.toNanos(ConfigReader.getLong("load.rampup.seconds"));
+        long thinkNanos = TimeUnit.MILLISECONDS.toNanos(ConfigReader.getLong("load.think.millis"));
+
+        log.info("Closed model: {} users, {} s ramp-up, {} iterations, {} ms think time",
+                userCount, rampUpNanos / 1_000_000_000, iterations, thinkNanos / 1_000_000);
+        long start = System.nanoTime();
+        for (int user = 0; user < userCount; user++) {
+            long userStart = start + rampUpNanos * user / userCount;
+            users.execute(() -> {
+                sleepUntil(userStart);
+                for (int i = 0; i < iterations && !Thread.currentThread().isInterrupted(); i++) {
+                    scenario.run(recorder, System.nanoTime());
+                    LockSupport.parkNanos(thinkNanos);
+                }
+            });
+        }
+    }
+
+    /**
+     * Iterations started on a fixed schedule, independent of response times
+     */
+    private static void runOpen(ExecutorService users, SauceDemoScenario scenario, SampleRecorder recorder) {
+        double rate = ConfigReader.getDouble("load.arrival.rate");
+        long durationSeconds = ConfigReader.getLong("load.duration.seconds");
+        long arrivals = (long) (rate * durationSeconds);
+        double intervalNanos = 1_000_000_000 / rate;
+
+        log.info("Open model: {} iterations/s for {} s ({} iterations)", rate, durationSeconds, arrivals);
+        long start = System.nanoTime();
+        for (long i = 0; i < arrivals; i++) {
+            long intendedStart = start + (long) (i * intervalNanos);
+            sleepUntil(intendedStart);
+            users.execute(() -> scenario.run(recorder, intendedStart));
+        }
+    }
+
+    static void sleepUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    /**
+     * Thread-per-user executor: virtual threads on JDK 21+, platform threads otherwise
+     */
+    static ExecutorService newUserExecutor() {
+        try {
+            ExecutorService executor = (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            log.info("Running users on virtual threads");
+            return executor;
+        } catch (ReflectiveOperationException e) {
+            log.info("Virtual threads not available on Java {}, running users on platform threads",
+                    Runtime.version().feature());
+            AtomicInteger counter = new AtomicInteger();
+            return Executors.newCachedThreadPool(task -> {
+                Thread thread = new Thread(task, "load-user-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sample Recorder
+ * Records per-sampler latencies in HdrHistograms and renders the same
+ * columns as JMeter's Summary Report / Aggregate Graph.
+ * Each sample is recorded twice: as measured (service time) and corrected
+ * for coordinated omission, which is what the report's percentiles use.
+ * The correction applies to the open model (latency from the scheduled start);
+ * in the closed model it is opt-in through an expected interval, and without
+ * one both histograms hold the same values.
+ */
+public class SampleRecorder {
+
+    // 1 µs .. 1 h at 3 significant digits
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Map<String, Stats> stats = new ConcurrentHashMap<>();
+    private final List<String> labels = new ArrayList<>();
+    private final long expectedIntervalMicros;
+
+    private static class Stats {
+        final Histogram measured = newHistogram();
+        final Histogram corrected = newHistogram();
+        final LongAdder errors = new LongAdder();
+        final LongAdder bytes = new LongAdder();
+        final AtomicLong firstStartNanos = new AtomicLong(Long.MAX_VALUE);
+        final AtomicLong lastEndNanos = new AtomicLong(Long.MIN_VALUE);
+    }
+
+    /**
+     * @param expectedIntervalMillis closed model only, opt-in: expected time between a
+     *                               user's samples; slower samples back-fill the ones a
+     *                               user could not send meanwhile (0 disables). Must be the
+     *                               real pacing (think time + iteration time): a shorter
+     *                               interval adds samples no user experienced
+     */
+    public SampleRecorder(long expectedIntervalMillis) {
+        this.expectedIntervalMicros = TimeUnit.MILLISECONDS.toMicros(expectedIntervalMillis);
+    }
+
+    private static Histogram newHistogram() {
+        return new ConcurrentHistogram(1, HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    }
+
+    /**
+     * Record one sample. intendedStartNanos is when the sample should have started
+     * (open model schedule); pass startNanos when there is no schedule.
+     */
+    public void record(String label, long intendedStartNanos, long startNanos, long endNanos,
+                       boolean success, long receivedBytes) {
+        Stats s = stats.get(label);
+        if (s == null) {
+            Stats created = new Stats();
+            s = stats.putIfAbsent(label, created);
+            if (s == null) {
+                s = created;
+                // Listed only once its stats are in the map, so readers never see a missing entry
+                synchronized (labels) {
+                    labels.add(label);
+                }
+            }
+        }
+
+        long measuredMicros = clamp((endNanos - startNanos) / 1_000);
+        s.measured.recordValue(measuredMicros);
+        if (intendedStartNanos < startNanos) {
+            // Open model: latency as seen by a user who arrived on schedule
+            s.corrected.recordValue(clamp((endNanos - intendedStartNanos) / 1_000));
+        } else if (expectedIntervalMicros > 0) {
+            s.corrected.recordValueWithExpectedInterval(measuredMicros, expectedIntervalMicros);
+        } else {
+            s.corrected.recordValue(measuredMicros);
+        }
+
+        if (!success) {
+            s.errors.increment();
+        }
+        s.bytes.add(receivedBytes);
+        s.firstStartNanos.accumulateAndGet(startNanos, Math::min);
+        s.lastEndNanos.accumulateAndGet(endNanos, Math::max);
+    }
+
+    private static long clamp(long micros) {
+        return Math.max(1, Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+    }
+
+    /**
+     * Summary table (times in ms), one row per sampler in first-seen order plus TOTAL
+     */
+    public String getSummary() {
+        StringBuilder summary = new StringBuilder(String.format(
+                "%-22s %9s %9s %9s %9s %9s %9s %9s %9s %8s %11s %10s %9s %12s%n",
+                "Label", "# Samples", "Average", "Median", "90% Line", "95% Line", "99% Line",
+                "Min", "Max", "Error %", "Throughput", "Recv KB/s", "Std.Dev.", "Raw 99% Line"));
+        for (String[] row : rows()) {
+            summary.append(String.format(
+                    "%-22s %9s %9s %9s %9s %9s %9s %9s %9s %8s %11s %10s %9s %12s%n", (Object[]) row));
+        }
+        return summary.toString();
+    }
+
+    /**
+     * Write the summary as CSV (same columns as JMeter's "Save Table Data")
+     */
+    public void writeCsv(Path file) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("Label,# Samples,Average,Median,90% Line,95% Line,99% Line,Min,Max,"
+                + "Error %,Throughput,Received KB/sec,Std. Dev.,Raw 99% Line");
+        for (String[] row : rows()) {
+            lines.add(String.join(",", row));
+        }
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Files.write(file, lines);
+    }
+
+    /**
+     * Aggregate over all samplers (times in ms), used for SLO checks.
+     * Percentiles are raw (as measured): an SLO is graded on latencies users
+     * actually saw, not on back-filled samples
+     */
+    public record Totals(long samples, double p95Millis, double p99Millis, double errorPercent, double throughput) {
+    }
+
+    public Totals getTotals() {
+        Stats total = aggregate(orderedLabels());
+        long samples = total.measured.getTotalCount();
+        if (samples == 0) {
+            return new Totals(0, 0, 0, 0, 0);
+        }
+        return new Totals(samples,
+                total.measured.getValueAtPercentile(95) / 1_000.0,
+                total.measured.getValueAtPercentile(99) / 1_000.0,
+                100.0 * total.errors.sum() / samples,
+                samples / seconds(total));
+    }
+
+    private List<String> orderedLabels() {
+        synchronized (labels) {
+            return new ArrayList<>(labels);
+        }
+    }
+
+    private Stats aggregate(List<String> ordered) {
+        Stats total = new Stats();
+        for (String label : ordered) {
+            Stats s = stats.get(label);
+            total.measured.add(s.measured);
+            total.corrected.add(s.corrected);
+            total.errors.add(s.errors.sum());
+            total.bytes.add(s.bytes.sum());
+            total.firstStartNanos.accumulateAndGet(s.firstStartNanos.get(), Math::min);
+            total.lastEndNanos.accumulateAndGet(s.lastEndNanos.get(), Math::max);
+        }
+        return total;
+    }
+
+    private List<String[]> rows() {
+        List<String> ordered = orderedLabels();
+        List<String[]> rows = new ArrayList<>();
+        for (String label : ordered) {
+            rows.add(row(label, stats.get(label)));
+        }
+        if (!ordered.isEmpty()) {
+            rows.add(row("TOTAL", aggregate(ordered)));
+        }
+        return rows;
+    }
+
+    private static double seconds(Stats s) {
+        return Math.max(1, s.lastEndNanos.get() - s.firstStartNanos.get()) / 1e9;
+    }
+
+    private static String[] row(String label, Stats s) {
+        Histogram h = s.corrected;
+        long samples = s.measured.getTotalCount();
+        double seconds = seconds(s);
+        return new String[]{
+                label,
+                String.valueOf(samples),
+                ms(h.getMean()),
+                ms(h.getValueAtPercentile(50)),
+                ms(h.getValueAtPercentile(90)),
+                ms(h.getValueAtPercentile(95)),
+                ms(h.getValueAtPercentile(99)),
+                ms(h.getMinValue()),
+                ms(h.getMaxValue()),
+                String.format("%.2f%%", samples == 0 ? 0 : 100.0 * s.errors.sum() / samples),
+                String.format("%.1f/sec", samples / seconds),
+                String.format("%.2f", s.bytes.sum() / 1024.0 / seconds),
+                ms(h.getStdDeviation()),
+                ms(s.measured.getValueAtPercentile(99))
+        };
+    }
+
+    private static String ms(double micros) {
+        return String.format("%.0f", micros / 1_000);
+    }
+}
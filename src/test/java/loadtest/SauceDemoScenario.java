@@ -0,0 +1,70 @@
+package loadtest;
+
+import constants.AppConstants;
+import utils.ConfigReader;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * SauceDemo Scenario
+ * One user iteration, same samplers as jmeter/testplans/SauceDemo_LoadTest.jmx:
+ * open login page, log in, view products. A sample passes on HTTP 200.
+ */
+public class SauceDemoScenario {
+
+    private final HttpClient client;
+    private final Duration requestTimeout;
+    private final String loginForm;
+
+    public SauceDemoScenario(Duration requestTimeout) {
+        this.requestTimeout = requestTimeout;
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(requestTimeout)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        this.loginForm = "username=" + URLEncoder.encode(ConfigReader.getValidUsername(), StandardCharsets.UTF_8)
+                + "&password=" + URLEncoder.encode(ConfigReader.getValidPassword(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Run all samplers once. Only the first sample can lag behind intendedStartNanos;
+     * the rest start when the previous one ends.
+     */
+    public void run(SampleRecorder recorder, long intendedStartNanos) {
+        sample(recorder, "1. Open Login Page", intendedStartNanos,
+                request(AppConstants.LOGIN_PAGE_URL).GET().build());
+        sample(recorder, "2. Login", System.nanoTime(),
+                request(AppConstants.LOGIN_PAGE_URL)
+                        .header("Content-Type", "application/x-www-form-urlencoded")
+                        .POST(HttpRequest.BodyPublishers.ofString(loginForm))
+                        .build());
+        sample(recorder, "3. View Products", System.nanoTime(),
+                request(AppConstants.INVENTORY_URL).GET().build());
+    }
+
+    protected HttpRequest.Builder request(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).timeout(requestTimeout);
+    }
+
+    protected void sample(SampleRecorder recorder, String label, long intendedStartNanos, HttpRequest request) {
+        long start = System.nanoTime();
+        boolean success = false;
+        long bytes = 0;
+        try {
+            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            success = response.statusCode() == 200;
+            bytes = response.body().length;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // Connection errors count as failed samples, like in JMeter
+        }
+        recorder.record(label, Math.min(intendedStartNanos, start), start, System.nanoTime(), success, bytes);
+    }
+}
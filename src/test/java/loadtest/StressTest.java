@@ -0,0 +1,152 @@
+package loadtest;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import utils.ConfigReader;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Stress Test
+ * Step-load profile over the checkout journey: starts stress.start.users users,
+ * adds stress.step.users every stress.step.seconds up to stress.max.users, and
+ * checks p95/p99 latency and error rate of every step against the SLO.
+ * Stops at the first breaching step and reports its throughput as the
+ * saturation point, next to the last step that stayed within the SLO.
+ *
+ * Run with: mvn test -Pstress [-Dapp.target=local]
+ */
+public class StressTest {
+
+    private static final Logger log = LogManager.getLogger(StressTest.class);
+
+    private record StepResult(int step, int users, SampleRecorder.Totals totals, String breach) {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int startUsers = ConfigReader.getInt("stress.start.users");
+        int stepUsers = ConfigReader.getInt("stress.step.users");
+        int maxUsers = ConfigReader.getInt("stress.max.users");
+        long stepNanos = TimeUnit.SECONDS.toNanos(ConfigReader.getLong("stress.step.seconds"));
+        long thinkNanos = TimeUnit.MILLISECONDS.toNanos(ConfigReader.getLong("stress.think.millis"));
+        CheckoutJourneyScenario scenario = new CheckoutJourneyScenario(
+                Duration.ofSeconds(ConfigReader.getLong("load.request.timeout.seconds")));
+
+        log.info("Stress test: {} users +{} every {} s up to {} users; SLO p95<={} ms, p99<={} ms, errors<={}%",
+                startUsers, stepUsers, stepNanos / 1_000_000_000, maxUsers,
+                ConfigReader.getProperty("stress.slo.p95.millis"),
+                ConfigReader.getProperty("stress.slo.p99.millis"),
+                ConfigReader.getProperty("stress.slo.error.percent"));
+
+        // Users record into the current step's recorder; null tells them to stop.
+        // No expected interval: users loop with think time, not at a fixed rate
+        AtomicReference<SampleRecorder> current = new AtomicReference<>(new SampleRecorder(0));
+        List<StepResult> results = new ArrayList<>();
+        ExecutorService executor = LoadGenerator.newUserExecutor();
+        int users = 0;
+        try {
+            for (int step = 1, target = startUsers; target <= maxUsers; step++, target += stepUsers) {
+                for (; users < target; users++) {
+                    executor.execute(() -> {
+                        SampleRecorder recorder;
+                        while ((recorder = current.get()) != null && !Thread.currentThread().isInterrupted()) {
+                            scenario.run(recorder, System.nanoTime());
+                            LockSupport.parkNanos(thinkNanos);
+                        }
+                    });
+                }
+
+                LoadGenerator.sleepUntil(System.nanoTime() + stepNanos);
+                SampleRecorder finished = current.getAndSet(new SampleRecorder(0));
+                SampleRecorder.Totals totals = finished.getTotals();
+                StepResult result = new StepResult(step, users, totals, checkSlo(totals));
+                results.add(result);
+                log.info("Step {}: {} users, {} samples, {}/sec, p95={} ms, p99={} ms, errors={}% -> {}",
+                        step, users, totals.samples(), format(totals.throughput()),
+                        format(totals.p95Millis()), format(totals.p99Millis()), format(totals.errorPercent()),
+                        result.breach() == null ? "OK" : "SLO breached: " + result.breach());
+                if (result.breach() != null) {
+                    break;
+                }
+            }
+        } finally {
+            current.set(null);
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+
+        log.info(saturationReport(results));
+        String reportFile = ConfigReader.getProperty("stress.report.file");
+        writeCsv(results, Paths.get(reportFile));
+        log.info("Step results written to {}", reportFile);
+
+        // Flush async logging now: exec:java closes the classloader before JVM shutdown hooks run
+        LogManager.shutdown();
+    }
+
+    /**
+     * Returns a description of the first violated SLO, null if the step passed
+     */
+    private static String checkSlo(SampleRecorder.Totals totals) {
+        double p95 = ConfigReader.getDouble("stress.slo.p95.millis");
+        double p99 = ConfigReader.getDouble("stress.slo.p99.millis");
+        double errorPercent = ConfigReader.getDouble("stress.slo.error.percent");
+        if (totals.samples() == 0) {
+            return "no samples completed";
+        }
+        if (totals.errorPercent() > errorPercent) {
+            return "error rate " + format(totals.errorPercent()) + "% > " + errorPercent + "%";
+        }
+        if (totals.p99Millis() > p99) {
+            return "p99 " + format(totals.p99Millis()) + " ms > " + p99 + " ms";
+        }
+        if (totals.p95Millis() > p95) {
+            return "p95 " + format(totals.p95Millis()) + " ms > " + p95 + " ms";
+        }
+        return null;
+    }
+
+    private static String saturationReport(List<StepResult> results) {
+        StepResult last = results.isEmpty() ? null : results.get(results.size() - 1);
+        if (last == null || last.breach() == null) {
+            return "No SLO breach up to " + (last == null ? 0 : last.users())
+                    + " users; saturation point is above the tested range";
+        }
+        String report = "Saturation point: " + format(last.totals().throughput()) + " samples/sec at "
+                + last.users() + " users (step " + last.step() + ", " + last.breach() + ")";
+        if (results.size() > 1) {
+            StepResult lastPassing = results.get(results.size() - 2);
+            report += "; last step within SLO: " + format(lastPassing.totals().throughput())
+                    + " samples/sec at " + lastPassing.users() + " users";
+        }
+        return report;
+    }
+
+    private static void writeCsv(List<StepResult> results, Path file) throws Exception {
+        List<String> lines = new ArrayList<>();
+        lines.add("Step,Users,Samples,Throughput,95% Line,99% Line,Error %,SLO");
+        for (StepResult r : results) {
+            lines.add(String.join(",", String.valueOf(r.step()), String.valueOf(r.users()),
+                    String.valueOf(r.totals().samples()), format(r.totals().throughput()),
+                    format(r.totals().p95Millis()), format(r.totals().p99Millis()),
+                    format(r.totals().errorPercent()), r.breach() == null ? "OK" : "BREACHED"));
+        }
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Files.write(file, lines);
+    }
+
+    private static String format(double value) {
+        return String.format("%.1f", value);
+    }
+}
@@ -2,11 +2,18 @@ package runners;
 
 import io.cucumber.testng.AbstractTestNGCucumberTests;
 import io.cucumber.testng.CucumberOptions;
+import io.cucumber.testng.Pickle;
+import io.cucumber.testng.PickleWrapper;
 import org.testng.annotations.DataProvider;
+import utils.TestSharding;
+
+import java.util.Arrays;
 
 /**
  * Cucumber Test Runner
  * Executes Cucumber BDD tests with TestNG
+ * Scenarios run in parallel when parallel.execution=true (see ParallelExecutionListener)
+ * With shard.total > 1 only the scenarios assigned to shard.index are run
  */
 @CucumberOptions(
         features = "src/test/resources/features",
@@ -17,7 +24,8 @@ import org.testng.annotations.DataProvider;
                 "html:target/cucumber-reports/cucumber.html",
                 "json:target/cucumber-reports/cucumber.json",
                 "junit:target/cucumber-reports/cucumber.xml",
-                "io.qameta.allure.cucumber7jvm.AllureCucumber7Jvm"
+                "io.qameta.allure.cucumber7jvm.AllureCucumber7Jvm",
+                "listeners.StepTimingPlugin"
         },
         monochrome = true,
         dryRun = false,
@@ -26,8 +34,12 @@ import org.testng.annotations.DataProvider;
 public class CucumberTestRunner extends AbstractTestNGCucumberTests {
 
     @Override
-    @DataProvider(parallel = false)
+    @DataProvider(parallel = true)
     public Object[][] scenarios() {
-        return super.scenarios();
+        Object[][] scenarios = super.scenarios();
+        return TestSharding.select("cucumber", Arrays.asList(scenarios), row -> {
+            Pickle pickle = ((PickleWrapper) row[0]).getPickle();
+            return TestSharding.scenarioKey(pickle.getUri(), pickle.getLine());
+        }).toArray(new Object[0][]);
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package stepDefinitions;
 
+import hooks.CircuitBreaker;
 import io.cucumber.java.en.*;
 import org.testng.Assert;
 import pages.LoginPage;
@@ -19,8 +20,10 @@ public class LoginSteps {
 
     @Given("user is on the SauceDemo login page")
     public void userIsOnLoginPage() {
-        loginPage.navigateToLoginPage();
-        Assert.assertTrue(loginPage.isLogoDisplayed(), "Login page not loaded");
+        CircuitBreaker.run("login page", () -> {
+            loginPage.navigateToLoginPage();
+            Assert.assertTrue(loginPage.isLogoDisplayed(), "Login page not loaded");
+        });
     }
 
     @When("user enters username {string}")
@@ -48,7 +51,12 @@ public class LoginSteps {
     public void userLogsInWithValidCredentials() {
         String username = ConfigReader.getValidUsername();
         String password = ConfigReader.getValidPassword();
-        productsPage = loginPage.login(username, password);
+        // loginWithSession does not fail on a rejected login; check here so the breaker counts it
+        productsPage = CircuitBreaker.call("login", () -> {
+            ProductsPage page = loginPage.loginWithSession(username, password);
+            Assert.assertTrue(page.isProductsPageDisplayed(), "Login did not reach the products page");
+            return page;
+        });
     }
 
     @Then("user should be redirected to products page")
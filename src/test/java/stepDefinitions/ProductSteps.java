@@ -1,5 +1,6 @@
 package stepDefinitions;
 
+import hooks.CircuitBreaker;
 import io.cucumber.java.en.*;
 import org.testng.Assert;
 import pages.ProductsPage;
@@ -21,8 +22,8 @@ public class ProductSteps {
 
     @Then("user should be on products page")
     public void userShouldBeOnProductsPage() {
-        Assert.assertTrue(productsPage.isProductsPageDisplayed(),
-                "User not on products page");
+        CircuitBreaker.run("products page", () -> Assert.assertTrue(productsPage.isProductsPageDisplayed(),
+                "User not on products page"));
     }
 
     @Then("products should be displayed")
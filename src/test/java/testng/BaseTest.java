@@ -0,0 +1,93 @@
+package testng;
+
+import api.HttpLoginPage;
+import api.HttpProductsPage;
+import api.HttpSession;
+import hooks.CircuitBreaker;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import pages.LoginPage;
+import pages.LoginView;
+import pages.ProductsPage;
+import pages.ProductsView;
+import utils.ConfigReader;
+import utils.DriverManager;
+
+import java.lang.reflect.Method;
+
+/**
+ * Base Test
+ * Starts a driver and runs the class's setUp before every test method,
+ * releases the driver after it. Shared preconditions (browser, login page,
+ * login) go through CircuitBreaker, so once they keep failing the remaining
+ * tests are skipped instead of each running into the same timeouts.
+ * alwaysRun: without it, group-filtered <test> blocks skip configuration methods.
+ * setUp is called from here rather than being its own @BeforeMethod: alwaysRun
+ * configuration methods still run after an earlier one failed.
+ * With test.backend=http no browser is started: the page factories return the
+ * HTTP backend's page objects (package api), sharing one HttpSession per test.
+ */
+public abstract class BaseTest {
+
+    private static final boolean HTTP_BACKEND = "http".equalsIgnoreCase(ConfigReader.getProperty("test.backend"));
+
+    // Per thread like the driver: data provider invocations run in parallel
+    private static final ThreadLocal<HttpSession> httpSession = new ThreadLocal<>();
+
+    @BeforeMethod(alwaysRun = true)
+    public void startDriver(Method method) {
+        CircuitBreaker.setCurrentTest(getClass().getSimpleName() + "." + method.getName());
+        if (HTTP_BACKEND) {
+            httpSession.set(new HttpSession());
+        } else {
+            CircuitBreaker.run("browser", DriverManager::initializeDriver);
+        }
+        setUp();
+    }
+
+    /**
+     * Create page objects and bring the app to the state the tests start from
+     */
+    protected abstract void setUp();
+
+    @AfterMethod(alwaysRun = true)
+    public void tearDown() {
+        if (HTTP_BACKEND) {
+            httpSession.remove();
+        } else {
+            DriverManager.quitDriver();
+        }
+    }
+
+    /**
+     * Page objects of the configured backend, bound to this thread's driver or HTTP session
+     */
+    protected LoginView newLoginPage() {
+        return HTTP_BACKEND ? new HttpLoginPage(httpSession.get()) : new LoginPage(DriverManager.getDriver());
+    }
+
+    protected ProductsView newProductsPage() {
+        return HTTP_BACKEND ? new HttpProductsPage(httpSession.get()) : new ProductsPage(DriverManager.getDriver());
+    }
+
+    /**
+     * Open the login page
+     */
+    protected void openLoginPage(LoginView loginPage) {
+        CircuitBreaker.run("login page", loginPage::navigateToLoginPage);
+    }
+
+    /**
+     * Log in as the valid user (reusing a cached session if enabled); fails,
+     * counting towards the "login" breaker, unless the products page is reached
+     */
+    protected ProductsView loginAsValidUser(LoginView loginPage) {
+        return CircuitBreaker.call("login", () -> {
+            ProductsView productsPage = loginPage.loginWithSession(
+                    ConfigReader.getValidUsername(), ConfigReader.getValidPassword());
+            Assert.assertTrue(productsPage.isProductsPageDisplayed(), "Login did not reach the products page");
+            return productsPage;
+        });
+    }
+}
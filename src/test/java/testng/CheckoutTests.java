@@ -4,41 +4,30 @@ import org.testng.Assert;
 import org.testng.annotations.*;
 import pages.*;
 import utils.ConfigReader;
-import utils.DriverManager;
 import constants.AppConstants;
 import io.qameta.allure.*;
 
 @Epic("E-Commerce")
 @Feature("Checkout Process")
-public class CheckoutTests {
+public class CheckoutTests extends BaseTest {
 
-    private LoginPage loginPage;
-    private ProductsPage productsPage;
-    private CartPage cartPage;
-    private CheckoutPage checkoutPage;
+    private LoginView loginPage;
+    private ProductsView productsPage;
+    private CartView cartPage;
+    private CheckoutView checkoutPage;
 
     @BeforeClass
     public void setupClass() {
         ConfigReader.getProperty("browser");
     }
 
-    @BeforeMethod
-    public void setUp() {
-        // Initialize driver
-        DriverManager.initializeDriver();
-
+    @Override
+    protected void setUp() {
         // Initialize page objects
-        loginPage = new LoginPage(DriverManager.getDriver());
-        productsPage = new ProductsPage(DriverManager.getDriver());
-        cartPage = new CartPage(DriverManager.getDriver());
-        checkoutPage = new CheckoutPage(DriverManager.getDriver());
+        loginPage = newLoginPage();
 
         // Login and add product
-        loginPage.navigateToLoginPage();
-        productsPage = loginPage.login(
-                ConfigReader.getValidUsername(),
-                ConfigReader.getValidPassword()
-        );
+        productsPage = loginAsValidUser(loginPage);
         productsPage.addProductToCart(AppConstants.BACKPACK);
         cartPage = productsPage.clickShoppingCart();
     }
@@ -109,8 +98,4 @@ public class CheckoutTests {
         Assert.assertNotNull(checkoutPage.getTotal());
     }
 
-    @AfterMethod
-    public void tearDown() {
-        DriverManager.quitDriver();
-    }
 }
\ No newline at end of file
@@ -2,19 +2,20 @@ package testng;
 
 import org.testng.Assert;
 import org.testng.annotations.*;
-import pages.LoginPage;
-import pages.ProductsPage;
+import dataproviders.ExcelDataProviders;
+import pages.LoginView;
+import pages.ProductsView;
 import utils.ConfigReader;
-import utils.DriverManager;
+import utils.ExcelReader;
 import constants.AppConstants;
 import io.qameta.allure.*;
 
 @Epic("Authentication")
 @Feature("User Login")
-public class LoginTests {
+public class LoginTests extends BaseTest {
 
-    private LoginPage loginPage;
-    private ProductsPage productsPage;
+    private LoginView loginPage;
+    private ProductsView productsPage;
 
     @BeforeClass
     public void setupClass() {
@@ -22,17 +23,13 @@ public class LoginTests {
         ConfigReader.getProperty("browser"); // This initializes config
     }
 
-    @BeforeMethod
-    public void setUp() {
-        // Initialize driver
-        DriverManager.initializeDriver();
-
-        // Initialize page objects AFTER driver is created
-        loginPage = new LoginPage(DriverManager.getDriver());
-        productsPage = new ProductsPage(DriverManager.getDriver());
-
-        // Navigate to login page
-        loginPage.navigateToLoginPage();
+    @Override
+    protected void setUp() {
+        // Initialize page objects AFTER driver is created; navigate the local one,
+        // data provider invocations may run setUp on this instance in parallel
+        LoginView page = newLoginPage();
+        openLoginPage(page);
+        loginPage = page;
     }
 
     @Test(priority = 1, groups = {"smoke", "regression"})
@@ -118,8 +115,24 @@ public class LoginTests {
         Assert.assertTrue(loginPage.isLogoDisplayed());
     }
 
-    @AfterMethod
-    public void tearDown() {
-        DriverManager.quitDriver();
+    @Test(priority = 8, groups = {"regression"},
+            dataProvider = "loginData", dataProviderClass = ExcelDataProviders.class)
+    @Story("Data-Driven Login")
+    @Severity(SeverityLevel.NORMAL)
+    public void testLoginWithExcelData(ExcelReader.TestDataRow data) {
+        // Local page objects: data provider invocations may run in parallel on this instance
+        LoginView page = newLoginPage();
+        page.enterUsername(data.getString("username"));
+        page.enterPassword(data.getString("password"));
+        page.clickLoginButton();
+
+        if ("success".equalsIgnoreCase(data.getString("expectedResult"))) {
+            Assert.assertTrue(newProductsPage().isProductsPageDisplayed(),
+                    "Login should succeed for " + data);
+        } else {
+            Assert.assertTrue(page.getErrorMessage().contains(data.getString("expectedError")),
+                    "Unexpected error message for " + data);
+        }
     }
+
 }
\ No newline at end of file
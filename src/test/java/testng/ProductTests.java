@@ -2,43 +2,33 @@ package testng;
 
 import org.testng.Assert;
 import org.testng.annotations.*;
-import pages.LoginPage;
-import pages.ProductsPage;
-import pages.CartPage;
+import pages.LoginView;
+import pages.ProductsView;
+import pages.CartView;
 import utils.ConfigReader;
-import utils.DriverManager;
 import constants.AppConstants;
 import io.qameta.allure.*;
 
 @Epic("E-Commerce")
 @Feature("Product Management")
-public class ProductTests {
+public class ProductTests extends BaseTest {
 
-    private LoginPage loginPage;
-    private ProductsPage productsPage;
-    private CartPage cartPage;
+    private LoginView loginPage;
+    private ProductsView productsPage;
+    private CartView cartPage;
 
     @BeforeClass
     public void setupClass() {
         ConfigReader.getProperty("browser");
     }
 
-    @BeforeMethod
-    public void setUp() {
-        // Initialize driver
-        DriverManager.initializeDriver();
-
+    @Override
+    protected void setUp() {
         // Initialize page objects
-        loginPage = new LoginPage(DriverManager.getDriver());
-        productsPage = new ProductsPage(DriverManager.getDriver());
-        cartPage = new CartPage(DriverManager.getDriver());
+        loginPage = newLoginPage();
 
         // Login
-        loginPage.navigateToLoginPage();
-        productsPage = loginPage.login(
-                ConfigReader.getValidUsername(),
-                ConfigReader.getValidPassword()
-        );
+        productsPage = loginAsValidUser(loginPage);
     }
 
     @Test(priority = 1, groups = {"smoke", "regression"})
@@ -109,15 +99,8 @@ public class ProductTests {
     @Story("Logout")
     @Severity(SeverityLevel.CRITICAL)
     public void testLogout() {
-        // Wait a moment for menu to be ready
-        try { Thread.sleep(1000); } catch (InterruptedException e) {}
-
         loginPage = productsPage.logout();
         Assert.assertTrue(loginPage.isLogoDisplayed());
     }
 
-    @AfterMethod
-    public void tearDown() {
-        DriverManager.quitDriver();
-    }
 }
\ No newline at end of file